@@ -0,0 +1,75 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtAuthenticationFilter 요청당 토큰 처리 비용
+ * - legacyFourParses: 변경 전 (validate + getUserId/getEmail/getRole, 매번 파서 생성 + 서명 검증)
+ * - singleParse: 파서 재사용 + 1회 파싱 (캐시 끔)
+ * - cachedParse: 검증된 토큰 캐시 적중
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long";
+
+	private SecretKey key;
+	private JwtUtil uncached;
+	private JwtUtil cached;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		key = Keys.hmacShaKeyFor(Base64.getEncoder().encode(SECRET.getBytes()));
+
+		uncached = new JwtUtil(SECRET, 3_600_000L, 604_800_000L, 0L);
+		uncached.init();
+		cached = new JwtUtil(SECRET, 3_600_000L, 604_800_000L, 10_000L);
+		cached.init();
+
+		token = cached.generateAccessToken(UUID.randomUUID(), "user@groom.com", "USER");
+		cached.parse(token);
+	}
+
+	@Benchmark
+	public CustomUserDetails legacyFourParses() {
+		legacyParse(token);
+		return new CustomUserDetails(
+			UUID.fromString(legacyParse(token).getSubject()),
+			legacyParse(token).get("email", String.class),
+			legacyParse(token).get("role", String.class)
+		);
+	}
+
+	@Benchmark
+	public CustomUserDetails singleParse() {
+		JwtClaims claims = uncached.parse(token);
+		return new CustomUserDetails(claims.userId(), claims.email(), claims.role());
+	}
+
+	@Benchmark
+	public CustomUserDetails cachedParse() {
+		JwtClaims claims = cached.parse(token);
+		return new CustomUserDetails(claims.userId(), claims.email(), claims.role());
+	}
+
+	private Claims legacyParse(String jwt) {
+		return Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build()
+			.parseClaimsJws(jwt)
+			.getBody();
+	}
+}
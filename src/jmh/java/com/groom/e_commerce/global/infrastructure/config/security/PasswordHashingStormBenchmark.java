@@ -0,0 +1,92 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 폭주(500 동시 로그인) 중 인증과 무관한 API 의 지연 분포 (SampleTime → p99 확인)
+ * - direct: 변경 전처럼 요청 스레드에서 BCrypt 실행
+ * - bounded: PasswordHasher 전용 풀에서 실행, 포화 시 429 (클라이언트는 잠시 뒤 재시도)
+ * 비교 대상은 api* 의 p0.99 값이다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingStormBenchmark {
+
+	private static final String PASSWORD = "password1234!";
+	private static final long CLIENT_BACKOFF_MS = 50;
+	// 인증과 무관한 API 한 건의 CPU 작업량 (수십 µs)
+	private static final long API_WORK_TOKENS = 20_000;
+
+	@State(Scope.Group)
+	public static class Storm {
+
+		BCryptPasswordEncoder bcrypt;
+		PasswordHasher hasher;
+		String hash;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			bcrypt = new BCryptPasswordEncoder();
+			hash = bcrypt.encode(PASSWORD);
+			hasher = new PasswordHasher(bcrypt, new SimpleMeterRegistry(), 0, 200, Duration.ofSeconds(5));
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			hasher.shutdown();
+		}
+	}
+
+	@Benchmark
+	@Group("direct")
+	@GroupThreads(500)
+	public boolean loginDirect(Storm storm) {
+		return storm.bcrypt.matches(PASSWORD, storm.hash);
+	}
+
+	@Benchmark
+	@Group("direct")
+	@GroupThreads(8)
+	public void apiDirect() {
+		Blackhole.consumeCPU(API_WORK_TOKENS);
+	}
+
+	@Benchmark
+	@Group("bounded")
+	@GroupThreads(500)
+	public boolean loginBounded(Storm storm) throws InterruptedException {
+		try {
+			return storm.hasher.matches(PASSWORD, storm.hash);
+		} catch (CustomException e) {
+			// 429 → 클라이언트 재시도 간격
+			Thread.sleep(CLIENT_BACKOFF_MS);
+			return false;
+		}
+	}
+
+	@Benchmark
+	@Group("bounded")
+	@GroupThreads(8)
+	public void apiBounded() {
+		Blackhole.consumeCPU(API_WORK_TOKENS);
+	}
+}
@@ -0,0 +1,134 @@
+package com.groom.e_commerce.product.domain.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 상품 검색 1페이지(20건) 지연 분포 - 합성 상품 100만 건 (SampleTime → p0.95 확인)
+ * - likeScan: 변경 전 searchByTitle (title LIKE '%키워드%', 순차 스캔)
+ * - fullText: searchByKeyword (search_vector GIN + lower(title) 트라이그램 GIN, 관련도순)
+ * 실행 전 애플리케이션을 한 번 띄워 테이블/인덱스(schema-postgresql.sql)를 만들어 둔다.
+ * 접속 정보: -Dbench.db.url / -Dbench.db.user / -Dbench.db.password (기본값은 로컬 개발 DB)
+ * 상품이 bench.products 보다 적으면 부족한 만큼 합성 데이터를 넣는다. (전용 DB 에서 실행할 것)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ProductSearchBenchmark {
+
+	private static final String LIKE_SQL = "SELECT p.product_id FROM p_product p "
+		+ "WHERE p.title LIKE ? AND p.status = 'ON_SALE' AND p.deleted_at IS NULL LIMIT 20";
+
+	private static final String FULL_TEXT_SQL = "SELECT p.product_id FROM p_product p, plainto_tsquery('simple', ?) q "
+		+ "WHERE p.status = 'ON_SALE' AND p.deleted_at IS NULL "
+		+ "AND (p.search_vector @@ q OR lower(p.title) LIKE ?) "
+		+ "ORDER BY ts_rank_cd(p.search_vector, q) DESC, similarity(lower(p.title), lower(?)) DESC, "
+		+ "p.created_at DESC LIMIT 20";
+
+	private static final String SEED_SQL = "INSERT INTO p_product (product_id, owner_id, category_id, title, "
+		+ "description, status, has_options, price, stock_quantity, created_at, updated_at) "
+		+ "SELECT gen_random_uuid(), ?, ?, "
+		+ "w[1 + g % 40] || w[1 + (g / 40) % 40] || ' ' || w[1 + (g * 7) % 40] || ' ' || g, "
+		+ "w[1 + (g * 3) % 40] || ' ' || w[1 + (g * 11) % 40] || ' ' || w[1 + (g * 13) % 40] || ' 상품 설명', "
+		+ "'ON_SALE', false, 1000 + g % 100000, 100, now() - g * interval '1 second', now() "
+		+ "FROM generate_series(1, ?) g, (SELECT ARRAY["
+		+ "'러닝', '운동화', '스니커즈', '슬리퍼', '샌들', '부츠', '로퍼', '구두', '티셔츠', '셔츠', "
+		+ "'니트', '후드', '자켓', '코트', '패딩', '청바지', '슬랙스', '반바지', '원피스', '스커트', "
+		+ "'가방', '백팩', '지갑', '모자', '양말', '벨트', '시계', '안경', '블루', '블랙', "
+		+ "'화이트', '그레이', '베이지', 'basic', 'premium', 'light', 'slim', 'over', 'cotton', 'wool'"
+		+ "] AS w) words";
+
+	@Param({"운동화", "블루", "러닝운동"})
+	private String keyword;
+
+	private Connection connection;
+	private PreparedStatement like;
+	private PreparedStatement fullText;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection(
+			System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5400/ecommerce"),
+			System.getProperty("bench.db.user", "postgres"),
+			System.getProperty("bench.db.password", "password"));
+		seed(Long.getLong("bench.products", 1_000_000L));
+
+		like = connection.prepareStatement(LIKE_SQL);
+		like.setString(1, "%" + keyword + "%");
+
+		fullText = connection.prepareStatement(FULL_TEXT_SQL);
+		fullText.setString(1, keyword);
+		fullText.setString(2, "%" + keyword.toLowerCase() + "%");
+		fullText.setString(3, keyword);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void likeScan(Blackhole blackhole) throws SQLException {
+		consume(like, blackhole);
+	}
+
+	@Benchmark
+	public void fullText(Blackhole blackhole) throws SQLException {
+		consume(fullText, blackhole);
+	}
+
+	private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = statement.executeQuery()) {
+			while (rs.next()) {
+				blackhole.consume(rs.getObject(1));
+			}
+		}
+	}
+
+	private void seed(long target) throws SQLException {
+		long existing;
+		try (Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("SELECT count(*) FROM p_product")) {
+			rs.next();
+			existing = rs.getLong(1);
+		}
+		if (existing >= target) {
+			return;
+		}
+
+		UUID categoryId = UUID.randomUUID();
+		try (PreparedStatement category = connection.prepareStatement(
+			"INSERT INTO p_category (category_id, name, depth, sort_order, is_active, created_at, updated_at) "
+				+ "VALUES (?, 'bench', 1, 0, true, now(), now())")) {
+			category.setObject(1, categoryId);
+			category.executeUpdate();
+		}
+		try (PreparedStatement insert = connection.prepareStatement(SEED_SQL)) {
+			insert.setObject(1, UUID.randomUUID());
+			insert.setObject(2, categoryId);
+			insert.setLong(3, target - existing);
+			insert.executeUpdate();
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE p_product");
+		}
+	}
+}
@@ -5,13 +5,12 @@ import java.util.UUID;
 import com.groom.e_commerce.claim.domain.status.ClaimStatus;
 import com.groom.e_commerce.claim.domain.status.ClaimType;
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -26,7 +25,7 @@ import lombok.NoArgsConstructor;
 public class Claim extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "log_id")
 	private UUID claimId;
 
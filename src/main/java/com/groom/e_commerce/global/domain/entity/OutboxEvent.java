@@ -0,0 +1,117 @@
+package com.groom.e_commerce.global.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transactional Outbox
+ * - 도메인 상태 변경과 같은 트랜잭션에 저장되고, OutboxRelay가 비동기로 핸들러에 전달한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "p_outbox_event",
+	indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at")
+)
+public class OutboxEvent {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@UuidV7
+	@Column(name = "outbox_id")
+	private UUID outboxId;
+
+	@Column(name = "aggregate_type", nullable = false, length = 50)
+	private String aggregateType;
+
+	@Column(name = "aggregate_id", nullable = false)
+	private UUID aggregateId;
+
+	@Column(name = "event_type", nullable = false, length = 100)
+	private String eventType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private OutboxStatus status;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	// PENDING: 이 시각 이후 처리 / PROCESSING: 이 시각까지 점유 (지나면 다른 relay가 다시 가져감)
+	@Column(name = "available_at", nullable = false)
+	private LocalDateTime availableAt;
+
+	// 가져간 relay 의 점유 토큰 - 임대가 끝나 다른 relay 가 다시 가져가면 바뀐다.
+	@Column(name = "claim_token")
+	private UUID claimToken;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "processed_at")
+	private LocalDateTime processedAt;
+
+	public OutboxEvent(String aggregateType, UUID aggregateId, String eventType, String payload) {
+		this.aggregateType = aggregateType;
+		this.aggregateId = aggregateId;
+		this.eventType = eventType;
+		this.payload = payload;
+		this.status = OutboxStatus.PENDING;
+		this.attempts = 0;
+		this.createdAt = LocalDateTime.now();
+		this.availableAt = this.createdAt;
+	}
+
+	public void markProcessing(UUID claimToken, LocalDateTime leaseUntil) {
+		this.status = OutboxStatus.PROCESSING;
+		this.claimToken = claimToken;
+		this.availableAt = leaseUntil;
+	}
+
+	// 아직 처리 중이고, 이 토큰으로 가져간 뒤 다른 relay 가 다시 가져가지 않았는지
+	public boolean isClaimedBy(UUID claimToken) {
+		return this.status == OutboxStatus.PROCESSING && claimToken.equals(this.claimToken);
+	}
+
+	public void markProcessed() {
+		this.status = OutboxStatus.PROCESSED;
+		this.claimToken = null;
+		this.processedAt = LocalDateTime.now();
+		this.lastError = null;
+	}
+
+	// 실패: 최대 횟수 전까지는 지연 후 재시도, 넘으면 FAILED
+	public void markRetry(String error, int maxAttempts, LocalDateTime retryAt) {
+		this.attempts++;
+		this.claimToken = null;
+		this.lastError = (error != null && error.length() > MAX_ERROR_LENGTH)
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+
+		if (this.attempts >= maxAttempts) {
+			this.status = OutboxStatus.FAILED;
+			return;
+		}
+		this.status = OutboxStatus.PENDING;
+		this.availableAt = retryAt;
+	}
+}
@@ -0,0 +1,8 @@
+package com.groom.e_commerce.global.domain.entity;
+
+public enum OutboxStatus {
+	PENDING,     // 처리 대기 (재시도 대기 포함)
+	PROCESSING,  // relay가 가져가 처리 중 (available_at 까지 점유)
+	PROCESSED,   // 처리 완료
+	FAILED       // 최대 재시도 초과 - 수동 확인 필요
+}
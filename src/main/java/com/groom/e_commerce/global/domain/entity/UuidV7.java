@@ -0,0 +1,20 @@
+package com.groom.e_commerce.global.domain.entity;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간순 정렬되는 UUID(v7) 식별자 생성
+ * - 랜덤 UUID(v4)와 달리 새 키가 항상 B-tree 인덱스 끝에 붙어 페이지 분할/WAL이 줄어든다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
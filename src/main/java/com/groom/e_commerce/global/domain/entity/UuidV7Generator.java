@@ -0,0 +1,48 @@
+package com.groom.e_commerce.global.domain.entity;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * UUID v7 (RFC 9562) 생성기
+ * - 상위 48비트: Unix epoch 밀리초
+ * - rand_a 12비트: 같은 밀리초 안의 순번 (프로세스 내 단조 증가 보장)
+ * - rand_b 62비트: SecureRandom (외부에 노출되는 ID라 추측 불가능해야 함)
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	// (밀리초 << 12) | 순번 - 시계가 뒤로 가거나 순번이 넘쳐도 이전 값 + 1로 단조 증가 유지
+	private static final AtomicLong LAST_STATE = new AtomicLong();
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		return next();
+	}
+
+	public static UUID next() {
+		long state = nextState();
+		long timestamp = state >>> 12;
+		long sequence = state & 0xFFFL;
+
+		long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+		long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	private static long nextState() {
+		while (true) {
+			long prev = LAST_STATE.get();
+			long now = System.currentTimeMillis() << 12;
+			long next = now > prev ? now : prev + 1;
+			if (LAST_STATE.compareAndSet(prev, next)) {
+				return next;
+			}
+		}
+	}
+}
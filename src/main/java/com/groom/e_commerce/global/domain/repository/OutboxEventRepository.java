@@ -0,0 +1,31 @@
+package com.groom.e_commerce.global.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.groom.e_commerce.global.domain.entity.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+	// 처리할 이벤트를 잠그며 가져옴 - 다른 relay(노드)가 잠근 row는 건너뛰므로 서로 기다리지 않는다
+	@Query(value = "SELECT * FROM p_outbox_event "
+		+ "WHERE status IN ('PENDING', 'PROCESSING') AND available_at <= :now "
+		+ "ORDER BY outbox_id "
+		+ "LIMIT :limit "
+		+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<OutboxEvent> findAvailableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	// 점유 토큰 재확인용 - 임대 갱신/완료 기록을 하는 짧은 트랜잭션 동안만 row 를 잠근다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT e FROM OutboxEvent e WHERE e.outboxId = :outboxId")
+	Optional<OutboxEvent> findByIdForUpdate(@Param("outboxId") UUID outboxId);
+}
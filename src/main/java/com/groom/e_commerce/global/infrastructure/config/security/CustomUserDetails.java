@@ -18,6 +18,12 @@ public class CustomUserDetails implements UserDetails {
 	private final UUID userId;
 	private final String email;
 	private final String role;
+	// 로그인 세션(refresh token 패밀리) - 로그아웃 시 폐기 대상
+	private final UUID sessionId;
+
+	public CustomUserDetails(UUID userId, String email, String role) {
+		this(userId, email, role, null);
+	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -10,6 +10,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,18 +26,25 @@ import lombok.RequiredArgsConstructor;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
+	private final RevokedSessionRegistry revokedSessionRegistry;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
 		String token = resolveToken(request);
 
-		if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
+		if (StringUtils.hasText(token)) {
+			// 서명 검증 + 클레임 추출은 한 번만 (최근 검증된 토큰은 캐시에서)
+			JwtClaims claims = jwtUtil.parse(token);
+			if (claims.isRefreshToken()) {
+				throw new CustomException(ErrorCode.INVALID_TOKEN);
+			}
+			// 로그아웃/탈취 의심으로 폐기된 세션 - 메모리 조회만 (DB 접근 없음)
+			if (revokedSessionRegistry.isRevoked(claims.sessionId())) {
+				throw new CustomException(ErrorCode.REVOKED_TOKEN);
+			}
 			CustomUserDetails userDetails = new CustomUserDetails(
-				jwtUtil.getUserIdFromToken(token),
-				jwtUtil.getEmailFromToken(token),
-				jwtUtil.getRoleFromToken(token)
-			);
+				claims.userId(), claims.email(), claims.role(), claims.sessionId());
 
 			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
 				userDetails, null, List.of(new SimpleGrantedAuthority("ROLE_" + userDetails.getRole()))
@@ -0,0 +1,30 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검증이 끝난 토큰의 클레임 (한 번 파싱해서 필요한 값만 꺼내 둔 것)
+ * - sessionId(sid): 로그인 세션 = refresh token 패밀리. 로그아웃/재사용 탐지 시 통째로 폐기된다.
+ * - tokenId(jti): refresh token 식별자 (access token 은 없음)
+ */
+public record JwtClaims(
+	UUID userId,
+	String email,
+	String role,
+	UUID sessionId,
+	UUID tokenId,
+	String type,
+	Instant expiresAt
+) {
+
+	public static final String REFRESH_TYPE = "refresh";
+
+	public boolean isRefreshToken() {
+		return REFRESH_TYPE.equals(type);
+	}
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+}
@@ -1,5 +1,10 @@
 package com.groom.e_commerce.global.infrastructure.config.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
@@ -9,12 +14,17 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -23,73 +33,181 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 // 토큰 발급 & 해석
+// - 파서는 init 에서 한 번만 만들어 재사용한다. (JwtParser 는 thread-safe)
+// - 검증된 토큰은 SHA-256 해시 → 클레임으로 만료 시각까지 캐시한다. (jwt.cache.max-size=0 이면 끔)
 public class JwtUtil {
 
-	@Value("${jwt.secret:defaultSecretKeyForDevelopmentPurposeOnly12345}")
-	private String secretKey;
+	private static final String SESSION_CLAIM = "sid";
+	private static final String TYPE_CLAIM = "typ";
 
-	@Value("${jwt.access-token-expiration:3600000}")
-	private long accessTokenExpiration;
-
-	@Value("${jwt.refresh-token-expiration:604800000}")
-	private long refreshTokenExpiration;
+	private final String secretKey;
+	private final long accessTokenExpiration;
+	private final long refreshTokenExpiration;
+	private final long cacheMaxSize;
 
 	private SecretKey key;
+	private JwtParser parser;
+	private Cache<String, JwtClaims> verifiedTokens;
+
+	public JwtUtil(
+		@Value("${jwt.secret:defaultSecretKeyForDevelopmentPurposeOnly12345}") String secretKey,
+		@Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
+		@Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+		@Value("${jwt.cache.max-size:10000}") long cacheMaxSize
+	) {
+		this.secretKey = secretKey;
+		this.accessTokenExpiration = accessTokenExpiration;
+		this.refreshTokenExpiration = refreshTokenExpiration;
+		this.cacheMaxSize = cacheMaxSize;
+	}
 
 	@PostConstruct
 	public void init() {
 		byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
 		this.key = Keys.hmacShaKeyFor(keyBytes);
+		this.parser = Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build();
+		this.verifiedTokens = cacheMaxSize > 0
+			? Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfter(new UntilTokenExpiry())
+				.build()
+			: null;
 	}
 
 	public String generateAccessToken(UUID userId, String email, String role) {
-		return generateToken(userId, email, role, accessTokenExpiration);
+		return generateAccessToken(userId, email, role, null);
+	}
+
+	public String generateAccessToken(UUID userId, String email, String role, UUID sessionId) {
+		return baseToken(userId, email, role, sessionId, accessTokenExpiration)
+			.compact();
+	}
+
+	public String generateRefreshToken(UUID userId, String email, String role, UUID sessionId, UUID tokenId) {
+		return baseToken(userId, email, role, sessionId, refreshTokenExpiration)
+			.setId(tokenId.toString())
+			.claim(TYPE_CLAIM, JwtClaims.REFRESH_TYPE)
+			.compact();
 	}
 
-	public String generateRefreshToken(UUID userId, String email, String role) {
-		return generateToken(userId, email, role, refreshTokenExpiration);
+	public Duration getRefreshTokenTtl() {
+		return Duration.ofMillis(refreshTokenExpiration);
 	}
 
-	private String generateToken(UUID userId, String email, String role, long expiration) {
+	private JwtBuilder baseToken(UUID userId, String email, String role, UUID sessionId, long expiration) {
 		Date now = new Date();
-		return Jwts.builder()
+		JwtBuilder builder = Jwts.builder()
 			.setSubject(userId.toString())
 			.claim("email", email)
 			.claim("role", role)
 			.setIssuedAt(now)
 			.setExpiration(new Date(now.getTime() + expiration))
-			.signWith(key)
-			.compact();
+			.signWith(key);
+		if (sessionId != null) {
+			builder.claim(SESSION_CLAIM, sessionId.toString());
+		}
+		return builder;
+	}
+
+	/**
+	 * 서명/만료 검증 + 클레임 추출을 한 번에 한다.
+	 * @throws CustomException EXPIRED_TOKEN / INVALID_TOKEN
+	 */
+	public JwtClaims parse(String token) {
+		if (verifiedTokens == null) {
+			return verify(token);
+		}
+
+		String cacheKey = hash(token);
+		JwtClaims cached = verifiedTokens.getIfPresent(cacheKey);
+		if (cached != null && !cached.isExpired(Instant.now())) {
+			return cached;
+		}
+
+		JwtClaims claims = verify(token);
+		verifiedTokens.put(cacheKey, claims);
+		return claims;
+	}
+
+	/**
+	 * refresh token 은 한 번 쓰고 교체되므로 캐시를 거치지 않는다.
+	 */
+	public JwtClaims parseRefreshToken(String token) {
+		JwtClaims claims = verify(token);
+		if (!claims.isRefreshToken() || claims.tokenId() == null || claims.sessionId() == null) {
+			throw new CustomException(ErrorCode.INVALID_TOKEN);
+		}
+		return claims;
 	}
 
 	public UUID getUserIdFromToken(String token) {
-		return UUID.fromString(parseClaims(token).getSubject());
+		return parse(token).userId();
 	}
 
 	public String getEmailFromToken(String token) {
-		return parseClaims(token).get("email", String.class);
+		return parse(token).email();
 	}
 
 	public String getRoleFromToken(String token) {
-		return parseClaims(token).get("role", String.class);
+		return parse(token).role();
 	}
 
 	public boolean validateToken(String token) {
+		parse(token);
+		return true;
+	}
+
+	private JwtClaims verify(String token) {
 		try {
-			parseClaims(token);
-			return true;
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			return new JwtClaims(
+				UUID.fromString(claims.getSubject()),
+				claims.get("email", String.class),
+				claims.get("role", String.class),
+				toUuid(claims.get(SESSION_CLAIM, String.class)),
+				toUuid(claims.getId()),
+				claims.get(TYPE_CLAIM, String.class),
+				claims.getExpiration().toInstant()
+			);
 		} catch (ExpiredJwtException e) {
 			throw new CustomException(ErrorCode.EXPIRED_TOKEN);
-		} catch (JwtException e) {
+		} catch (JwtException | IllegalArgumentException e) {
 			throw new CustomException(ErrorCode.INVALID_TOKEN);
 		}
 	}
 
-	private Claims parseClaims(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(key)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+	private UUID toUuid(String value) {
+		return value != null ? UUID.fromString(value) : null;
+	}
+
+	// 원문 토큰을 메모리에 들고 있지 않도록 해시를 키로 쓴다.
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 항목마다 토큰 만료 시각에 맞춰 캐시에서 빠진다.
+	private static class UntilTokenExpiry implements Expiry<String, JwtClaims> {
+
+		@Override
+		public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+			return Math.max(0L, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
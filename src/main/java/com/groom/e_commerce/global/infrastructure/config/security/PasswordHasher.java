@@ -0,0 +1,120 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * - BCrypt 는 의도적으로 CPU 를 많이 쓰므로, 요청 스레드가 아니라 크기가 고정된 전용 풀에서만 돌린다.
+ *   (로그인이 몰려도 해시에 쓰이는 코어 수가 threads 로 묶여 다른 API 가 CPU 를 잃지 않는다)
+ * - 요청 스레드는 결과를 기다리며 묶이므로, 대기열은 Tomcat 요청 스레드 수보다 훨씬 작게 두고(최대 1/4)
+ *   짧게만 기다린다. 가득 차거나 timeout 이 지나면 429 로 바로 거절해 다른 API 가 쓸 스레드를 남긴다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final Duration timeout;
+
+	public PasswordHasher(
+		PasswordEncoder passwordEncoder,
+		MeterRegistry meterRegistry,
+		@Value("${security.password.hasher.threads:0}") int threads,
+		@Value("${security.password.hasher.queue-capacity:16}") int queueCapacity,
+		@Value("${security.password.hasher.timeout:1s}") Duration timeout,
+		@Value("${server.tomcat.threads.max:200}") int requestThreads
+	) {
+		this.passwordEncoder = passwordEncoder;
+		this.timeout = timeout;
+
+		// 기본값: 코어 절반 (최소 1)
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+		// 해시를 기다리는 요청 스레드(실행 + 대기열)가 요청 스레드의 1/4 을 넘지 않게 대기열을 줄인다.
+		int maxWaiters = Math.max(1, requestThreads / 4);
+		int capacity = Math.max(1, Math.min(queueCapacity, maxWaiters - poolSize));
+		if (capacity < queueCapacity) {
+			log.warn("Password hasher queue capacity reduced from {} to {} (request threads={}, hasher threads={})",
+				queueCapacity, capacity, requestThreads, poolSize);
+		}
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			poolSize, poolSize,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(capacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hasher");
+	}
+
+	public String encode(CharSequence rawPassword) {
+		return call(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * 예전 방식(접두어 없는 BCrypt, 낮은 cost)으로 저장된 해시면 true - 로그인 성공 시 다시 해시해 저장한다.
+	 */
+	public boolean upgradeEncoding(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T call(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			log.warn("Password hasher saturated: active={}, queued={}",
+				executor.getActiveCount(), executor.getQueue().size());
+			throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+		}
+
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("비밀번호 해시에 실패했습니다.", e.getCause());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,66 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.e_commerce.global.util.BloomFilter;
+
+/**
+ * 폐기된 로그인 세션(sid) 목록 - 매 요청 검사를 DB 없이 메모리에서 끝낸다.
+ * - Bloom filter 로 대부분(폐기되지 않은 세션)을 바로 통과시키고, 걸린 것만 정확한 집합에서 확인한다.
+ * - access token 은 최대 수명 이후엔 어차피 만료되므로 그 기간만 기억한다.
+ * - 다른 노드에서 폐기된 세션은 RefreshTokenService 가 주기적으로 DB 에서 가져와 등록한다.
+ */
+@Component
+public class RevokedSessionRegistry {
+
+	private static final double BLOOM_FPP = 0.001;
+
+	private final Cache<UUID, Boolean> revoked;
+	private final long bloomExpectedInsertions;
+	private volatile BloomFilter bloom;
+
+	public RevokedSessionRegistry(
+		@Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
+		@Value("${jwt.revocation.expected-sessions:1000000}") long bloomExpectedInsertions
+	) {
+		this.revoked = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(accessTokenExpiration))
+			.build();
+		this.bloomExpectedInsertions = bloomExpectedInsertions;
+		this.bloom = new BloomFilter(bloomExpectedInsertions, BLOOM_FPP);
+	}
+
+	public void revoke(UUID sessionId) {
+		revoked.put(sessionId, Boolean.TRUE);
+		bloom.put(sessionId);
+	}
+
+	public boolean isRevoked(UUID sessionId) {
+		if (sessionId == null || !bloom.mightContain(sessionId)) {
+			return false;
+		}
+		return revoked.getIfPresent(sessionId) != null;
+	}
+
+	/**
+	 * 만료된 세션이 빠지도록 Bloom filter 를 현재 목록으로 다시 만든다. (삭제가 안 되므로)
+	 * 교체 후 한 번 더 채워서, 재구성 중에 들어온 폐기도 놓치지 않는다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.bloom-rebuild-ms:600000}")
+	public void rebuild() {
+		revoked.cleanUp();
+		BloomFilter rebuilt = new BloomFilter(bloomExpectedInsertions, BLOOM_FPP);
+		Set<UUID> sessionIds = revoked.asMap().keySet();
+		sessionIds.forEach(rebuilt::put);
+		this.bloom = rebuilt;
+		sessionIds.forEach(rebuilt::put);
+	}
+}
@@ -1,9 +1,12 @@
 package com.groom.e_commerce.global.infrastructure.config.security;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,6 +14,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+	private static final String BCRYPT_ID = "bcrypt";
+
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
 	@Bean
@@ -39,7 +45,8 @@ public class SecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
 				// 인증/회원가입
-				.requestMatchers("/auth/signup", "/auth/login").permitAll()
+				.requestMatchers("/auth/signup", "/auth/login", "/auth/refresh").permitAll()
+				.requestMatchers(HttpMethod.GET, "/auth/check-email", "/auth/check-nickname").permitAll()
 
 				// 결제 관련 엔드포인트 (ready/success/fail/confirm 등 포함)
 				.requestMatchers("/api/v1/payments/**").permitAll()
@@ -50,6 +57,9 @@ public class SecurityConfig {
 				// 루트/파비콘
 				.requestMatchers("/", "/favicon.ico", "/error").permitAll()
 
+				// 헬스 체크 (metrics 등 나머지 actuator는 인증 필요)
+				.requestMatchers("/actuator/health").permitAll()
+
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 				.anyRequest().authenticated()
 			)
@@ -59,8 +69,15 @@ public class SecurityConfig {
 		return http.build();
 	}
 
+	/**
+	 * 해시 앞에 {bcrypt} 처럼 방식을 붙여 저장한다. (방식/cost 를 바꿔도 기존 해시를 그대로 검증)
+	 * 접두어 없는 예전 해시는 BCrypt 로 검증하고, 로그인 성공 시 새 방식으로 다시 저장된다.
+	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+		encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+		return encoder;
 	}
 }
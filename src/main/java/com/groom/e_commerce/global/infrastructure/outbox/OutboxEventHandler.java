@@ -0,0 +1,16 @@
+package com.groom.e_commerce.global.infrastructure.outbox;
+
+/**
+ * Outbox 이벤트 소비자
+ * - relay 트랜잭션 밖에서 호출되므로 DB 변경이 있으면 핸들러가 직접 트랜잭션을 연다.
+ * - 같은 이벤트의 핸들러 중 하나라도 실패하면 함께 재시도되고, 처리 도중 점유가 넘어가면 다시 전달될 수 있다.
+ *   따라서 핸들러는 멱등이어야 한다.
+ */
+public interface OutboxEventHandler<T> {
+
+	String eventType();
+
+	Class<T> payloadType();
+
+	void handle(T payload);
+}
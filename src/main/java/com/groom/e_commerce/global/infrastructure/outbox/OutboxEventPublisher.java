@@ -0,0 +1,36 @@
+package com.groom.e_commerce.global.infrastructure.outbox;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.domain.entity.OutboxEvent;
+import com.groom.e_commerce.global.domain.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 이벤트 기록 - 반드시 상태를 바꾼 트랜잭션 안에서 호출 (함께 커밋/롤백)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("이벤트 직렬화에 실패했습니다. type=" + eventType, e);
+		}
+		outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, json));
+	}
+}
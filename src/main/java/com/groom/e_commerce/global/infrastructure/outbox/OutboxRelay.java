@@ -0,0 +1,146 @@
+package com.groom.e_commerce.global.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.domain.entity.OutboxEvent;
+import com.groom.e_commerce.global.domain.repository.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox relay
+ * 1) 짧은 트랜잭션으로 처리 가능한 이벤트를 SKIP LOCKED로 잠가 PROCESSING(임대) 상태로 가져온다.
+ * 2) 이벤트마다 짧은 트랜잭션에서 row를 잠그고 아직 이 relay의 점유 토큰인지 확인한 뒤 임대를 다시 잡는다.
+ *    배치 뒤쪽 이벤트의 임대가 끝나 다른 relay가 다시 가져갔다면 건너뛴다.
+ * 3) 핸들러는 트랜잭션 밖에서 실행한다. (PG 호출 같은 외부 I/O 동안 DB 커넥션과 row 락을 잡지 않도록)
+ *    각 핸들러가 필요한 트랜잭션을 직접 연다.
+ * 4) 끝나면 짧은 트랜잭션에서 토큰을 다시 확인하고 PROCESSED(실패면 지연 후 재시도)를 기록한다.
+ *    그 사이 점유가 넘어갔거나 노드가 죽으면 다른 relay가 다시 처리하므로 핸들러는 멱등이어야 한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final Map<String, List<OutboxEventHandler<?>>> handlers;
+
+	@Value("${outbox.relay.batch-size:100}")
+	private int batchSize;
+
+	@Value("${outbox.relay.lease-seconds:60}")
+	private long leaseSeconds;
+
+	@Value("${outbox.relay.max-attempts:10}")
+	private int maxAttempts;
+
+	public OutboxRelay(
+		OutboxEventRepository outboxEventRepository,
+		TransactionTemplate transactionTemplate,
+		ObjectMapper objectMapper,
+		List<OutboxEventHandler<?>> handlers
+	) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.handlers = handlers.stream()
+			.collect(Collectors.groupingBy(OutboxEventHandler::eventType));
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:1000}")
+	public void relay() {
+		List<UUID> claimed;
+		do {
+			UUID claimToken = UUID.randomUUID();
+			claimed = claimBatch(claimToken);
+			claimed.forEach(outboxId -> process(outboxId, claimToken));
+		} while (claimed.size() == batchSize);
+	}
+
+	private List<UUID> claimBatch(UUID claimToken) {
+		List<UUID> ids = transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<OutboxEvent> events = outboxEventRepository.findAvailableForUpdate(now, batchSize);
+			events.forEach(event -> event.markProcessing(claimToken, now.plusSeconds(leaseSeconds)));
+			return events.stream().map(OutboxEvent::getOutboxId).toList();
+		});
+		return ids != null ? ids : List.of();
+	}
+
+	private void process(UUID outboxId, UUID claimToken) {
+		Optional<Dispatch> dispatch = renewLease(outboxId, claimToken);
+		if (dispatch.isEmpty()) {
+			log.info("Outbox 이벤트 점유가 넘어가 건너뜀 - outboxId={}", outboxId);
+			return;
+		}
+		try {
+			dispatch(dispatch.get());
+		} catch (Exception e) {
+			log.warn("Outbox 이벤트 처리 실패 - outboxId={}", outboxId, e);
+			transactionTemplate.executeWithoutResult(status ->
+				findClaimed(outboxId, claimToken).ifPresent(event -> event.markRetry(
+					e.getMessage(), maxAttempts, LocalDateTime.now().plusSeconds(retryDelaySeconds(event)))));
+			return;
+		}
+		transactionTemplate.executeWithoutResult(status ->
+			findClaimed(outboxId, claimToken).ifPresentOrElse(
+				OutboxEvent::markProcessed,
+				() -> log.warn("Outbox 이벤트 처리 중 점유가 넘어감 (다른 relay가 다시 처리) - outboxId={}", outboxId)));
+	}
+
+	// 임대는 배치를 가져온 시각이 아니라 이 이벤트 처리를 시작하는 시각부터 센다.
+	private Optional<Dispatch> renewLease(UUID outboxId, UUID claimToken) {
+		return Optional.ofNullable(transactionTemplate.execute(status -> findClaimed(outboxId, claimToken)
+			.map(event -> {
+				event.markProcessing(claimToken, LocalDateTime.now().plusSeconds(leaseSeconds));
+				return new Dispatch(event.getOutboxId(), event.getEventType(), event.getPayload());
+			})
+			.orElse(null)));
+	}
+
+	// row 를 잠그고, 여전히 이 relay 가 점유한 이벤트일 때만 돌려준다.
+	private Optional<OutboxEvent> findClaimed(UUID outboxId, UUID claimToken) {
+		return outboxEventRepository.findByIdForUpdate(outboxId)
+			.filter(event -> event.isClaimedBy(claimToken));
+	}
+
+	private void dispatch(Dispatch dispatch) {
+		List<OutboxEventHandler<?>> eventHandlers = handlers.getOrDefault(dispatch.eventType(), List.of());
+		if (eventHandlers.isEmpty()) {
+			log.warn("Outbox 핸들러 없음 - eventType={}, outboxId={}", dispatch.eventType(), dispatch.outboxId());
+		}
+		for (OutboxEventHandler<?> handler : eventHandlers) {
+			invoke(handler, dispatch.payload());
+		}
+	}
+
+	private <T> void invoke(OutboxEventHandler<T> handler, String payload) {
+		try {
+			handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("이벤트 역직렬화에 실패했습니다. type=" + handler.eventType(), e);
+		}
+	}
+
+	// 5s, 10s, 20s ... 최대 10분
+	private long retryDelaySeconds(OutboxEvent event) {
+		return Math.min(600L, 5L << Math.min(event.getAttempts(), 7));
+	}
+
+	// 트랜잭션 밖에서 핸들러에 넘길 이벤트 내용 (엔티티를 트랜잭션 밖으로 들고 나가지 않는다)
+	private record Dispatch(UUID outboxId, String eventType, String payload) {
+	}
+}
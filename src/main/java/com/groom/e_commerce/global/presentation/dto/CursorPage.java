@@ -0,0 +1,22 @@
+package com.groom.e_commerce.global.presentation.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 페이지
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회한다. (마지막 페이지면 null)
+ * - totalCount 는 요청한 경우에만 채운다. (목록 스크롤에는 보통 필요 없음)
+ */
+public record CursorPage<T>(
+	List<T> content,
+	String nextCursor,
+	boolean hasNext,
+	Long totalCount
+) {
+
+	public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = content.stream().<R>map(mapper).toList();
+		return new CursorPage<>(mapped, nextCursor, hasNext, totalCount);
+	}
+}
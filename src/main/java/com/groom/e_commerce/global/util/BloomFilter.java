@@ -0,0 +1,112 @@
+package com.groom.e_commerce.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 동시성 안전 Bloom filter
+ * - mightContain == false 면 확실히 없음, true 면 "있을 수도 있음" (오탐률 ≒ fpp)
+ * - 삭제는 지원하지 않으므로, 원소가 빠져야 하면 새로 만들어 교체한다.
+ * - 비트 배열은 AtomicLongArray 라 put / mightContain 을 락 없이 동시에 호출해도 된다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double fpp) {
+		if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+			throw new IllegalArgumentException("expectedInsertions > 0, 0 < fpp < 1 이어야 합니다.");
+		}
+		// m = -n ln p / (ln 2)^2, k = m/n ln 2
+		long m = (long)Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		int words = (int)Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * 64;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		put(hash(value.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	public boolean mightContain(String value) {
+		return mightContain(hash(value.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	public void put(UUID value) {
+		put(hash(value));
+	}
+
+	public boolean mightContain(UUID value) {
+		return mightContain(hash(value));
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashCount() {
+		return hashCount;
+	}
+
+	private void put(long hash) {
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	private boolean mightContain(long hash) {
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 이중 해싱(Kirsch-Mitzenmacher): h1 + i*h2 로 k개의 위치를 만든다.
+	private long index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitSize;
+	}
+
+	private static long hash(byte[] bytes) {
+		// FNV-1a 64 + murmur3 finalizer
+		long h = 0xcbf29ce484222325L;
+		for (byte b : bytes) {
+			h ^= b;
+			h *= 0x100000001b3L;
+		}
+		return mix(h);
+	}
+
+	private static long hash(UUID value) {
+		return mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+	}
+
+	private static long mix(long value) {
+		long h = value;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -22,4 +22,14 @@ public class SecurityUtil {
 		CustomUserDetails userDetails = (CustomUserDetails)auth.getPrincipal();
 		return userDetails.getUserId();
 	}
+
+	// 현재 로그인 세션 ID (세션 정보가 없는 예전 토큰이면 null)
+	public static UUID getCurrentSessionId() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+		if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof CustomUserDetails)) {
+			throw new CustomException(ErrorCode.UNAUTHORIZED);
+		}
+		return ((CustomUserDetails)auth.getPrincipal()).getSessionId();
+	}
 }
@@ -0,0 +1,51 @@
+package com.groom.e_commerce.order.application.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventHandler;
+import com.groom.e_commerce.order.domain.event.OrderStatusChangedEvent;
+import com.groom.e_commerce.order.domain.repository.OrderRepository;
+import com.groom.e_commerce.order.domain.status.OrderStatus;
+import com.groom.e_commerce.payment.domain.event.PaymentCompletedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 승인 완료 → 주문 결제 완료(PENDING → PAID)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCompletedOrderHandler implements OutboxEventHandler<PaymentCompletedEvent> {
+
+	private final OrderRepository orderRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public String eventType() {
+		return PaymentCompletedEvent.TYPE;
+	}
+
+	@Override
+	public Class<PaymentCompletedEvent> payloadType() {
+		return PaymentCompletedEvent.class;
+	}
+
+	@Override
+	@Transactional
+	public void handle(PaymentCompletedEvent event) {
+		orderRepository.findById(event.orderId()).ifPresentOrElse(
+			order -> {
+				// 재전달되어도 이미 반영된 상태면 무시
+				if (order.getStatus() == OrderStatus.PENDING) {
+					order.markPaid();
+					applicationEventPublisher.publishEvent(new OrderStatusChangedEvent(order.getOrderId()));
+				}
+			},
+			() -> log.warn("결제 완료 이벤트의 주문이 없습니다. orderId={}", event.orderId())
+		);
+	}
+}
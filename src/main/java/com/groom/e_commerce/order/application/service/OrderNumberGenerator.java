@@ -0,0 +1,68 @@
+package com.groom.e_commerce.order.application.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.order.infrastructure.repository.OrderNumberSequenceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문번호 생성기 (yyyyMMdd-00000000001, 20자)
+ * - 번호 부분은 PostgreSQL 시퀀스에서 블록 단위로 받아 메모리에서 소진한다.
+ *   시퀀스가 구간을 나눠주므로 여러 노드에서도 재시도 없이 중복이 발생하지 않는다.
+ * - 재시작 시 남은 구간은 버려지므로 번호가 연속적이지는 않다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderNumberGenerator {
+
+	// p_order_number_seq 의 INCREMENT BY 값과 같아야 한다
+	static final int BLOCK_SIZE = 100;
+
+	private static final int SEQUENCE_DIGITS = 11;
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final OrderNumberSequenceRepository sequenceRepository;
+
+	private long nextValue;
+	private long blockLimit;
+
+	// 날짜 부분은 하루에 한 번만 포맷
+	private volatile DatePart cachedDatePart;
+
+	public String generate() {
+		String sequence = Long.toString(nextSequence());
+
+		StringBuilder orderNumber = new StringBuilder(20)
+			.append(datePart())
+			.append('-');
+		for (int i = sequence.length(); i < SEQUENCE_DIGITS; i++) {
+			orderNumber.append('0');
+		}
+		return orderNumber.append(sequence).toString();
+	}
+
+	private synchronized long nextSequence() {
+		if (nextValue >= blockLimit) {
+			nextValue = sequenceRepository.nextBlockStart();
+			blockLimit = nextValue + BLOCK_SIZE;
+		}
+		return nextValue++;
+	}
+
+	private String datePart() {
+		LocalDate today = LocalDate.now();
+		DatePart datePart = cachedDatePart;
+		if (datePart == null || !datePart.date().equals(today)) {
+			datePart = new DatePart(today, today.format(DATE_FORMAT));
+			cachedDatePart = datePart;
+		}
+		return datePart.formatted();
+	}
+
+	private record DatePart(LocalDate date, String formatted) {
+	}
+}
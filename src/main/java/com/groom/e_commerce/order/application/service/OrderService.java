@@ -1,28 +1,37 @@
 package com.groom.e_commerce.order.application.service;
 
-import java.math.BigInteger;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.order.domain.entity.Order;
 import com.groom.e_commerce.order.domain.entity.OrderItem;
-import com.groom.e_commerce.order.domain.repository.OrderItemRepository;
+import com.groom.e_commerce.order.domain.event.OrderCancelledEvent;
+import com.groom.e_commerce.order.domain.event.OrderStatusChangedEvent;
 import com.groom.e_commerce.order.domain.repository.OrderRepository;
 import com.groom.e_commerce.order.presentation.dto.request.OrderCreateItemRequest;
 import com.groom.e_commerce.order.presentation.dto.request.OrderCreateRequest;
 import com.groom.e_commerce.order.presentation.dto.response.OrderResponse;
+import com.groom.e_commerce.product.application.service.StockServiceV1;
+import com.groom.e_commerce.product.application.service.StockServiceV1.StockItem;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
 import com.groom.e_commerce.user.application.service.AddressServiceV1;
 import com.groom.e_commerce.user.presentation.dto.response.ResAddressDtoV1;
 
-import lombok.Builder;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -30,9 +39,15 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class OrderService {
 
+	private static final String AGGREGATE_TYPE = "ORDER";
+
 	private final OrderRepository orderRepository;
-	private final OrderItemRepository orderItemRepository;
 	private final AddressServiceV1 addressService;
+	private final StockServiceV1 stockService;
+	private final ProductQueryRepository productQueryRepository;
+	private final OrderNumberGenerator orderNumberGenerator;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	// MSA 핵심: Repository가 아니라 Service(또는 Client)를 주입받음
 	// private final ProductService productService;
@@ -47,7 +62,7 @@ public class OrderService {
 
 		ResAddressDtoV1 addressInfo = addressService.getAddress(request.getAddressId(), buyerId);
 		// 2. 주문번호 생성
-		String orderNumber = generateOrderNumber();
+		String orderNumber = orderNumberGenerator.generate();
 
 		// 3. 주문(Order) 엔티티 생성
 		Order order = Order.builder()
@@ -58,79 +73,84 @@ public class OrderService {
 			.zipCode(addressInfo.getZipCode())
 			.shippingAddress(addressInfo.getAddress() + " " + addressInfo.getDetailAddress())
 			.shippingMemo("문 앞에 놔주세요") // (이건 request에 필드가 없어서 일단 고정, 필요하면 request에 추가)
-			.totalPaymentAmount(BigInteger.valueOf(0L))
 			.build();
 
-		orderRepository.save(order); // 영속화 (ID 생성됨)
+		// 4. 주문 상품 정보 일괄 조회 (상품 + SKU를 한 번의 쿼리로)
+		List<UUID> productIds = request.getItems().stream()
+			.map(OrderCreateItemRequest::getProductId)
+			.distinct()
+			.toList();
+		Map<UUID, Product> products = productQueryRepository.findProductsWithVariantsByIds(productIds).stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
 
-		// 4. 주문 상품(OrderItem) 처리
-		long totalAmount = 0L;
-		List<OrderItem> orderItems = new ArrayList<>();
+		// 5. 주문 상품(OrderItem) 스냅샷 생성 (메모리에서 애그리거트 완성, 총액 누적)
+		List<StockItem> stockItems = new ArrayList<>();
 
 		for (OrderCreateItemRequest itemReq : request.getItems()) {
+			Product product = products.get(itemReq.getProductId());
+			validateOrderable(product);
 
-			// 상품 서비스에 정보 요청
-			// ProductResponse productInfo = productService.getProduct(itemReq.getProductId());
-
-			// 👇 [임시] 상품 서비스 대신 가짜 DTO 생성
-			MockProductResponse productInfo = MockProductResponse.builder()
-				.productId(itemReq.getProductId())
-				.ownerId(UUID.randomUUID())
-				.name("테스트 상품 (" + itemReq.getProductId().toString().substring(0, 5) + ")")
-				.thumbnail("http://fake-image.com/img.png")
-				.optionName("기본 옵션")
-				.price(10000L) // 가격 10,000원으로 고정
-				.build();
-
-			// [MSA Point 2] 재고 차감 요청
-			// productService.decreaseStock(itemReq.getProductId(), itemReq.getQuantity());
-			// 👇 [임시] 재고 차감은 그냥 넘어감 (로그만 출력)
-			System.out.println("재고 차감 요청됨: ID=" + itemReq.getProductId() + ", 수량=" + itemReq.getQuantity());
+			ProductVariant variant = findVariant(product, itemReq.getVariantId());
+			long unitPrice = toUnitPrice(variant != null ? variant.getPrice() : product.getPrice());
 
-			// 5. 상품 스냅샷 생성 (OrderItem)
 			OrderItem orderItem = OrderItem.builder()
 				.order(order)
-				.productId(productInfo.getProductId())
-				.variantId(UUID.randomUUID())
-				.ownerId(productInfo.getOwnerId())
-				.productTitle(productInfo.getName())
-				.productThumbnail(productInfo.getThumbnail())
-				.optionName(productInfo.getOptionName())
-				.unitPrice(productInfo.getPrice())
+				.productId(product.getId())
+				.variantId(variant != null ? variant.getId() : null)
+				.ownerId(product.getOwnerId())
+				.productTitle(product.getTitle())
+				.productThumbnail(product.getThumbnailUrl())
+				.optionName(variant != null ? variant.getOptionName() : null)
+				.unitPrice(unitPrice)
 				.quantity(itemReq.getQuantity())
 				.build();
 
-			orderItems.add(orderItem);
-
-			// 총액 합산
-			totalAmount += (productInfo.getPrice() * itemReq.getQuantity());
+			order.addItem(orderItem);
+			stockItems.add(new StockItem(product.getId(), orderItem.getVariantId(), itemReq.getQuantity()));
 		}
 
-		// 6. OrderItem 일괄 저장
-		orderItemRepository.saveAll(orderItems);
+		// 6. 주문 저장 (cascade로 OrderItem까지 함께 INSERT)
+		orderRepository.save(order);
 
-		// order.updatePaymentAmount(totalAmount);
-		System.out.println("최종 결제 금액: " + totalAmount);
+		// 7. 재고 선점 (조건부 차감, 부족하면 예외 → 주문 전체 롤백)
+		// 트랜잭션 마지막에 수행해 재고 row 락 보유 시간을 최소화한다.
+		stockService.reserve(stockItems);
 
 		return order.getOrderId();
 	}
 
-	private String generateOrderNumber() {
-		String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-		int randomPart = ThreadLocalRandom.current().nextInt(100000, 999999);
-		return datePart + "-" + randomPart;
+	private void validateOrderable(Product product) {
+		if (product == null) {
+			throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+		}
+		// 품절 여부는 재고 선점 단계에서 판단하므로 여기서는 판매 가능한 상태인지만 확인
+		ProductStatus status = product.getStatus();
+		if (product.isDeleted() || !(status.isOnSale() || status == ProductStatus.SOLD_OUT)) {
+			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE);
+		}
+	}
+
+	// 주문 금액은 원 단위 정수 - 가격이 없거나 소수 단위인 상품은 주문할 수 없다. (500 대신 400 으로 응답)
+	private long toUnitPrice(BigDecimal price) {
+		if (price == null) {
+			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE, "가격이 정해지지 않은 상품입니다.");
+		}
+		try {
+			return price.longValueExact();
+		} catch (ArithmeticException e) {
+			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE, "원 단위로 주문할 수 없는 가격입니다.");
+		}
 	}
 
-	// 👇 [임시] 파일 하나로 해결하기 위해 내부에 만든 가짜 DTO 클래스
-	@Getter
-	@Builder
-	static class MockProductResponse {
-		private UUID productId;
-		private UUID ownerId;
-		private String name;
-		private String thumbnail;
-		private String optionName;
-		private Long price;
+	// 옵션 상품은 SKU 지정 필수, 옵션 없는 상품은 SKU 없이 주문
+	private ProductVariant findVariant(Product product, UUID variantId) {
+		if (!Boolean.TRUE.equals(product.getHasOptions())) {
+			return null;
+		}
+		return product.getVariants().stream()
+			.filter(variant -> variant.getId().equals(variantId))
+			.findFirst()
+			.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
 	}
 
 	@Transactional(readOnly = true) // 중요: 조회 전용 트랜잭션 (성능 최적화)
@@ -144,7 +164,7 @@ public class OrderService {
 	/**
 	 * 주문 취소 (핵심 비즈니스 로직)
 	 */
-	@Transactional // ✅ 데이터 변경(상태 변경 + 재고 복구)이므로 필수
+	@Transactional // ✅ 데이터 변경(상태 변경 + 이벤트 기록)이므로 필수
 	public void cancelOrder(UUID orderId) {
 
 		// 1. 주문 조회
@@ -155,25 +175,14 @@ public class OrderService {
 		// -> Order 상태 변경 & OrderItem 상태 변경 수행됨
 		order.cancel();
 
-		// 3. 재고 복구 요청 (Product Service 연동)
-		// OrderItem 리스트를 순회하며 각 상품의 수량만큼 재고를 다시 늘려줍니다.
-		for (OrderItem item : order.getItem()) {
-
-			// 상품 서비스에 재고 증가(복구) 요청
-			// productService.increaseStock(item.getProductId(), item.getQuantity());
-
-			// 👇 [임시] 상품 서비스 대신 로그 출력 (Mocking)(나중에 지우고 위 코드로 대체)
-			System.out.println("=========================================");
-			System.out.println("[재고 복구 요청]");
-			System.out.println("상품 ID: " + item.getProductId());
-			System.out.println("복구 수량: " + item.getQuantity());
-			System.out.println("=========================================");
-		}
+		// 3. 재고 복구 / 결제 취소는 Outbox 이벤트로 비동기 처리 (취소와 같은 트랜잭션에 기록)
+		List<OrderCancelledEvent.Item> items = order.getItem().stream()
+			.map(item -> new OrderCancelledEvent.Item(item.getProductId(), item.getVariantId(), item.getQuantity()))
+			.toList();
+		outboxEventPublisher.publish(AGGREGATE_TYPE, order.getOrderId(), OrderCancelledEvent.TYPE,
+			new OrderCancelledEvent(order.getOrderId(), items));
 
-		// 4. (선택) 결제 취소 로직
-		// if (order.getStatus() == OrderStatus.PAID) {
-		//     paymentService.cancelPayment(order.getPaymentId());
-		// }
+		applicationEventPublisher.publishEvent(new OrderStatusChangedEvent(order.getOrderId()));
 	}
 
 }
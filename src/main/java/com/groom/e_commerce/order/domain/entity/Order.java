@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.UUID;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 import com.groom.e_commerce.order.domain.status.OrderStatus;
 
 import jakarta.persistence.CascadeType;
@@ -13,8 +14,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -30,7 +29,7 @@ import lombok.NoArgsConstructor;
 public class Order extends BaseEntity { // Audit(생성일시 등) 적용
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID) // ✅ UUID 자동 생성 전략
+	@UuidV7
 	@Column(name = "order_id")
 	private UUID orderId;
 
@@ -74,7 +73,7 @@ public class Order extends BaseEntity { // Audit(생성일시 등) 적용
 		String shippingAddress, String shippingMemo) {
 		this.buyerId = buyerId;
 		this.orderNumber = orderNumber;
-		this.totalPaymentAmount = totalPaymentAmount;
+		this.totalPaymentAmount = totalPaymentAmount != null ? totalPaymentAmount : BigInteger.ZERO;
 		this.recipientName = recipientName;
 		this.recipientPhone = recipientPhone;
 		this.zipCode = zipCode;
@@ -83,6 +82,15 @@ public class Order extends BaseEntity { // Audit(생성일시 등) 적용
 		this.status = OrderStatus.PENDING; // 초기 상태 고정
 	}
 
+	/* ================= 연관관계 메서드 ================= */
+
+	// 주문 상품 추가 + 총 결제 금액 누적
+	// 저장 전에 애그리거트를 완성해 두면 Order INSERT 한 번에 최종 금액이 기록된다 (사후 UPDATE 없음)
+	public void addItem(OrderItem orderItem) {
+		this.item.add(orderItem);
+		this.totalPaymentAmount = this.totalPaymentAmount.add(BigInteger.valueOf(orderItem.getSubtotal()));
+	}
+
 	/* ================= 상태 전이 메서드 ================= */
 
 	// 결제 완료 (PENDING → PAID)
@@ -3,6 +3,7 @@ package com.groom.e_commerce.order.domain.entity;
 import java.util.UUID;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 import com.groom.e_commerce.order.domain.status.OrderStatus;
 
 import jakarta.persistence.Column;
@@ -10,8 +11,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -28,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class OrderItem extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "order_item_id")
 	private UUID orderItemId;
 
@@ -39,7 +38,7 @@ public class OrderItem extends BaseEntity {
 	@Column(name = "product_id", nullable = false)
 	private UUID productId;
 
-	@Column(name = "variant_id", nullable = false)
+	@Column(name = "variant_id") // 옵션 없는 상품은 null
 	private UUID variantId;
 
 	@Column(name = "owner_id", nullable = false)
@@ -0,0 +1,18 @@
+package com.groom.e_commerce.order.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 취소됨 → 재고 복구, 결제 취소(환불)
+ */
+public record OrderCancelledEvent(
+	UUID orderId,
+	List<Item> items
+) {
+
+	public static final String TYPE = "ORDER_CANCELLED";
+
+	public record Item(UUID productId, UUID variantId, int quantity) {
+	}
+}
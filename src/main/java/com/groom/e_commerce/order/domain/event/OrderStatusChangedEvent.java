@@ -0,0 +1,9 @@
+package com.groom.e_commerce.order.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 주문 상태 변경 알림 (프로세스 내 Spring 이벤트) - 주문 요약 캐시 무효화 용도
+ */
+public record OrderStatusChangedEvent(UUID orderId) {
+}
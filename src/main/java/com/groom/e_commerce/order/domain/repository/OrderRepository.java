@@ -12,4 +12,10 @@ import com.groom.e_commerce.order.domain.entity.Order;
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 	@Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.item WHERE o.orderId = :id")
 	Optional<Order> findByIdWithItems(@Param("id") UUID id);
+
+	// 결제용 주문 요약 (엔티티/주문상품 로딩 없이 필요한 컬럼만 조회)
+	@Query("SELECT new com.groom.e_commerce.order.domain.repository.OrderSummaryView("
+		+ "o.orderId, o.totalPaymentAmount, o.orderNumber, o.recipientName) "
+		+ "FROM Order o WHERE o.orderId = :id")
+	Optional<OrderSummaryView> findSummaryById(@Param("id") UUID id);
 }
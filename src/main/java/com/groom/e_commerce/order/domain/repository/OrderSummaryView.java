@@ -0,0 +1,12 @@
+package com.groom.e_commerce.order.domain.repository;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+public record OrderSummaryView(
+	UUID orderId,
+	BigInteger totalPaymentAmount,
+	String orderNumber,
+	String recipientName
+) {
+}
@@ -0,0 +1,25 @@
+package com.groom.e_commerce.order.infrastructure.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderNumberSequenceRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주문번호 블록 시작값 조회
+	 * 시퀀스가 INCREMENT BY 100 이므로 반환값부터 100개가 이 노드 전용 구간이 된다.
+	 */
+	public long nextBlockStart() {
+		Long start = jdbcTemplate.queryForObject("SELECT nextval('p_order_number_seq')", Long.class);
+		if (start == null) {
+			throw new IllegalStateException("주문번호 시퀀스를 조회할 수 없습니다.");
+		}
+		return start;
+	}
+}
@@ -8,5 +8,6 @@ import lombok.Getter;
 public class OrderCreateItemRequest {
 
 	private UUID productId;
+	private UUID variantId; // 옵션 상품인 경우 SKU ID (옵션 없는 상품은 null)
 	private Integer quantity;
 }
@@ -0,0 +1,54 @@
+package com.groom.e_commerce.payment.application.event;
+
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventHandler;
+import com.groom.e_commerce.order.domain.event.OrderCancelledEvent;
+import com.groom.e_commerce.payment.application.port.in.CancelPaymentUseCase;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.presentation.dto.request.ReqCancelPaymentV1;
+
+/**
+ * 주문 취소 → 승인된 결제가 있으면 잔여 금액 전액 취소(환불)
+ * 이미 취소된 결제는 PG/DB 양쪽에서 멱등 처리되므로 재시도돼도 안전하다. (요청 키는 주문 ID로 고정)
+ */
+@Component
+public class OrderCancelledRefundHandler implements OutboxEventHandler<OrderCancelledEvent> {
+
+	private static final String CANCEL_REASON = "주문 취소";
+	private static final String REQUEST_KEY_PREFIX = "order-cancel:";
+
+	private final PaymentRepository paymentRepository;
+	private final CancelPaymentUseCase cancelPaymentUseCase;
+
+	public OrderCancelledRefundHandler(
+		PaymentRepository paymentRepository,
+		CancelPaymentUseCase cancelPaymentUseCase
+	) {
+		this.paymentRepository = paymentRepository;
+		this.cancelPaymentUseCase = cancelPaymentUseCase;
+	}
+
+	@Override
+	public String eventType() {
+		return OrderCancelledEvent.TYPE;
+	}
+
+	@Override
+	public Class<OrderCancelledEvent> payloadType() {
+		return OrderCancelledEvent.class;
+	}
+
+	@Override
+	public void handle(OrderCancelledEvent event) {
+		paymentRepository.findByOrderId(event.orderId())
+			.filter(payment -> payment.getStatus() == PaymentStatus.PAID)
+			// Outbox 릴레이 스레드에서 실행되므로 결과를 기다려 실패 시 재시도되게 한다.
+			.ifPresent(payment -> cancelPaymentUseCase.cancel(
+				payment.getPaymentKey(),
+				new ReqCancelPaymentV1(CANCEL_REASON, null),
+				REQUEST_KEY_PREFIX + event.orderId()
+			).block());
+	}
+}
@@ -3,6 +3,9 @@ package com.groom.e_commerce.payment.application.port.in;
 import com.groom.e_commerce.payment.presentation.dto.request.ReqCancelPaymentV1;
 import com.groom.e_commerce.payment.presentation.dto.response.ResCancelResultV1;
 
+import reactor.core.publisher.Mono;
+
 public interface CancelPaymentUseCase {
-	ResCancelResultV1 cancel(String paymentKey, ReqCancelPaymentV1 request);
+	// requestKey: 같은 취소 요청의 재시도면 같은 값 (멱등키)
+	Mono<ResCancelResultV1> cancel(String paymentKey, ReqCancelPaymentV1 request, String requestKey);
 }
@@ -0,0 +1,5 @@
+package com.groom.e_commerce.payment.application.port.in;
+
+public interface ReceivePaymentWebhookUseCase {
+	void receive(String payload);
+}
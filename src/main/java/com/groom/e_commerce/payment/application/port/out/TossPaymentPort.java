@@ -5,10 +5,14 @@ import com.groom.e_commerce.payment.infrastructure.api.toss.dto.request.TossConf
 import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossCancelResponse;
 import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
 
+import reactor.core.publisher.Mono;
+
 public interface TossPaymentPort {
-	TossPaymentResponse confirm(TossConfirmRequest request);
+	Mono<TossPaymentResponse> confirm(TossConfirmRequest request, String idempotencyKey);
+
+	Mono<TossPaymentResponse> getPayment(String paymentKey);
 
-	TossPaymentResponse getPayment(String paymentKey);
+	Mono<TossPaymentResponse> getPaymentByOrderId(String orderId);
 
-	TossCancelResponse cancel(String paymentKey, TossCancelRequest request);
+	Mono<TossCancelResponse> cancel(String paymentKey, TossCancelRequest request, String idempotencyKey);
 }
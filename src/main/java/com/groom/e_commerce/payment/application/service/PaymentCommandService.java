@@ -1,12 +1,18 @@
 package com.groom.e_commerce.payment.application.service;
 
 import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
 import com.groom.e_commerce.payment.application.port.in.CancelPaymentUseCase;
 import com.groom.e_commerce.payment.application.port.in.ConfirmPaymentUseCase;
 import com.groom.e_commerce.payment.application.port.in.ReadyPaymentUseCase;
@@ -14,6 +20,7 @@ import com.groom.e_commerce.payment.application.port.out.OrderQueryPort;
 import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
 import com.groom.e_commerce.payment.domain.entity.Payment;
 import com.groom.e_commerce.payment.domain.entity.PaymentCancel;
+import com.groom.e_commerce.payment.domain.event.PaymentCompletedEvent;
 import com.groom.e_commerce.payment.domain.model.PaymentStatus;
 import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
 import com.groom.e_commerce.payment.infrastructure.api.toss.config.TossPaymentsProperties;
@@ -30,27 +37,42 @@ import com.groom.e_commerce.payment.presentation.dto.response.ResReadyPaymentV1;
 import com.groom.e_commerce.payment.presentation.exception.PaymentException;
 import com.groom.e_commerce.payment.presentation.exception.TossApiException;
 
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
 @Service
-@Transactional
 public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPaymentUseCase, ReadyPaymentUseCase {
 
 	private static final String PG_PROVIDER_TOSS = "toss";
+	private static final String AGGREGATE_TYPE = "PAYMENT";
+	private static final int MAX_CANCEL_REQUEST_KEY_LENGTH = 64;
 
 	private final PaymentRepository paymentRepository;
 	private final TossPaymentPort tossPaymentPort;
 	private final TossPaymentsProperties tossPaymentsProperties;
 	private final OrderQueryPort orderQueryPort;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final PaymentIdempotencyService paymentIdempotencyService;
 
 	public PaymentCommandService(
 		PaymentRepository paymentRepository,
 		TossPaymentPort tossPaymentPort,
 		TossPaymentsProperties tossPaymentsProperties,
-		OrderQueryPort orderQueryPort
+		OrderQueryPort orderQueryPort,
+		OutboxEventPublisher outboxEventPublisher,
+		TransactionTemplate transactionTemplate,
+		PaymentIdempotencyService paymentIdempotencyService
 	) {
 		this.paymentRepository = paymentRepository;
 		this.tossPaymentPort = tossPaymentPort;
 		this.tossPaymentsProperties = tossPaymentsProperties;
 		this.orderQueryPort = orderQueryPort;
+		this.outboxEventPublisher = outboxEventPublisher;
+		this.transactionTemplate = transactionTemplate;
+		this.paymentIdempotencyService = paymentIdempotencyService;
 	}
 
 	/**
@@ -143,10 +165,41 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 
 	/**
 	 * ✅ 결제 승인(confirm)
+	 * - 사전 검증(트랜잭션) → 토스 승인(논블로킹) → 결과 반영(트랜잭션)
+	 * - PG 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 붙잡지 않는다.
+	 * - 같은 주문의 중복 승인 요청은 저장된 응답을 재사용한다. (캐시 적중 시 DB 조회도 없음)
 	 */
 	@Override
-	public ResPaymentV1 confirm(ReqConfirmPaymentV1 request) {
-		UUID orderId = request.orderId();
+	public Mono<ResPaymentV1> confirm(ReqConfirmPaymentV1 request) {
+		String idempotencyKey = PaymentIdempotencyService.confirmKey(request.orderId(), request.paymentKey());
+
+		Optional<ResPaymentV1> replay = paymentIdempotencyService.findCached(idempotencyKey, ResPaymentV1.class);
+		if (replay.isPresent()) {
+			return Mono.fromCallable(() -> verifyReplay(replay.get(), request));
+		}
+
+		return inTransaction(() -> checkConfirmable(request, idempotencyKey))
+			.flatMap(plan -> plan.completed() != null
+				? Mono.just(plan.completed())
+				: confirmWithPg(request, plan.paymentId(), idempotencyKey));
+	}
+
+	private Mono<ResPaymentV1> confirmWithPg(ReqConfirmPaymentV1 request, UUID paymentId, String idempotencyKey) {
+		TossConfirmRequest tossRequest =
+			new TossConfirmRequest(request.paymentKey(), request.orderId().toString(), request.amount());
+
+		return tossPaymentPort.confirm(tossRequest, idempotencyKey)
+			.flatMap(toss -> inTransaction(() -> applyConfirm(request, paymentId, toss, idempotencyKey)))
+			// 같은 키로 동시에 들어온 요청이 먼저 기록했다면 그 결과를 돌려준다.
+			.onErrorResume(DataIntegrityViolationException.class, e ->
+				replayOrError(idempotencyKey, ResPaymentV1.class, e));
+	}
+
+	/**
+	 * 승인 가능 여부 검증 (락 없이 읽기만)
+	 * - 이미 승인된 결제면 그 결과를 돌려준다. (멱등)
+	 */
+	private ConfirmPlan checkConfirmable(ReqConfirmPaymentV1 request, String idempotencyKey) {
 		Long requestAmount = request.amount();
 
 		if (requestAmount == null) {
@@ -157,17 +210,45 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 			);
 		}
 
-		Payment payment = paymentRepository.findByOrderId(orderId)
-			.orElseThrow(() -> new PaymentException(
-				HttpStatus.NOT_FOUND,
-				"PAYMENT_NOT_FOUND",
-				"결제 정보를 찾을 수 없습니다."
-			));
+		Optional<ResPaymentV1> replay = paymentIdempotencyService.find(idempotencyKey, ResPaymentV1.class);
+		if (replay.isPresent()) {
+			return ConfirmPlan.completed(verifyReplay(replay.get(), request));
+		}
+
+		Payment payment = getPaymentByOrderId(request.orderId());
 
 		// 멱등 처리
 		if (payment.isAlreadyPaid()) {
-			return ResPaymentV1.from(payment);
+			return ConfirmPlan.completed(verifyReplay(ResPaymentV1.from(payment), request));
+		}
+		validateConfirmable(payment, requestAmount);
+
+		return ConfirmPlan.pending(payment.getPaymentId());
+	}
+
+	/**
+	 * 이미 승인된 결과를 돌려주기 전에 요청이 그 승인과 같은 결제인지 확인한다.
+	 * (다른 결제 키나 금액의 요청에 첫 승인 응답을 그대로 돌려주지 않도록)
+	 */
+	private ResPaymentV1 verifyReplay(ResPaymentV1 completed, ReqConfirmPaymentV1 request) {
+		if (!Objects.equals(completed.paymentKey(), request.paymentKey())) {
+			throw new PaymentException(
+				HttpStatus.CONFLICT,
+				"ALREADY_PAID",
+				"이미 다른 결제로 승인된 주문입니다."
+			);
+		}
+		if (!Objects.equals(completed.amount(), request.amount())) {
+			throw new PaymentException(
+				HttpStatus.BAD_REQUEST,
+				"INVALID_AMOUNT",
+				"결제 요청 금액이 서버 금액과 일치하지 않습니다."
+			);
 		}
+		return completed;
+	}
+
+	private void validateConfirmable(Payment payment, Long requestAmount) {
 		if (payment.isAlreadyCancelled()) {
 			throw new PaymentException(
 				HttpStatus.CONFLICT,
@@ -184,14 +265,20 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 				"결제 요청 금액이 서버 금액과 일치하지 않습니다."
 			);
 		}
+	}
 
-		// 토스 승인 호출
-		TossPaymentResponse toss = tossPaymentPort.confirm(
-			new TossConfirmRequest(request.paymentKey(), orderId.toString(), requestAmount)
-		);
-
+	/**
+	 * 토스 승인 결과 반영
+	 * - 사전 검증 이후 상태가 바뀌었을 수 있으므로 행 락을 잡고 다시 검증한다.
+	 */
+	private ResPaymentV1 applyConfirm(
+		ReqConfirmPaymentV1 request,
+		UUID paymentId,
+		TossPaymentResponse toss,
+		String idempotencyKey
+	) {
 		// 토스 응답 금액 검증(선택)
-		if (toss.totalAmount() != null && !toss.totalAmount().equals(requestAmount)) {
+		if (toss.totalAmount() != null && !toss.totalAmount().equals(request.amount())) {
 			throw new PaymentException(
 				HttpStatus.BAD_GATEWAY,
 				"PAYMENT_CONFIRM_AMOUNT_MISMATCH",
@@ -199,36 +286,90 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 			);
 		}
 
+		Payment payment = paymentRepository.findByIdWithLock(paymentId)
+			.orElseThrow(() -> new PaymentException(
+				HttpStatus.NOT_FOUND,
+				"PAYMENT_NOT_FOUND",
+				"결제 정보를 찾을 수 없습니다."
+			));
+
+		// 락을 기다리는 동안 같은 키의 다른 요청이 먼저 반영했을 수 있다.
+		Optional<ResPaymentV1> replay = paymentIdempotencyService.find(idempotencyKey, ResPaymentV1.class);
+		if (replay.isPresent()) {
+			return verifyReplay(replay.get(), request);
+		}
+		if (payment.isAlreadyPaid()) {
+			return verifyReplay(ResPaymentV1.from(payment), request);
+		}
+		validateConfirmable(payment, request.amount());
+
 		payment.markPaid(toss.paymentKey(), toss.approvedAt());
 
 		Payment saved = paymentRepository.save(payment);
-		return ResPaymentV1.from(saved);
+
+		// 주문 결제 완료 처리는 Outbox 이벤트로 (결제 상태와 같은 트랜잭션에 기록)
+		outboxEventPublisher.publish(AGGREGATE_TYPE, saved.getPaymentId(), PaymentCompletedEvent.TYPE,
+			new PaymentCompletedEvent(
+				saved.getPaymentId(), saved.getOrderId(), saved.getPaymentKey(), saved.getAmount()));
+
+		ResPaymentV1 response = ResPaymentV1.from(saved);
+		paymentIdempotencyService.record(idempotencyKey, response);
+		return response;
 	}
 
 	/**
 	 * ✅ 결제 취소(cancel)
 	 * - canceledAt: OffsetDateTime 고정
 	 * - 토스가 이미 취소된 결제라고 응답하면 성공처럼 처리 + DB 보정
+	 * - 멱등키는 (paymentKey, 호출자가 준 요청 키)로 만든다.
 	 */
 	@Override
-	public ResCancelResultV1 cancel(String paymentKey, ReqCancelPaymentV1 request) {
-		Payment payment = paymentRepository.findByPaymentKey(paymentKey)
-			.orElseThrow(() -> new PaymentException(
-				HttpStatus.NOT_FOUND,
-				"PAYMENT_NOT_FOUND",
-				"결제 정보를 찾을 수 없습니다."
-			));
+	public Mono<ResCancelResultV1> cancel(String paymentKey, ReqCancelPaymentV1 request, String requestKey) {
+		return inTransaction(() -> planCancel(paymentKey, request, requestKey))
+			.flatMap(plan -> {
+				if (plan.completed() != null) {
+					return Mono.just(plan.completed());
+				}
+				String idempotencyKey = plan.idempotencyKey();
+				TossCancelRequest tossRequest = new TossCancelRequest(request.cancelReason(), plan.cancelAmount());
+				return tossPaymentPort.cancel(paymentKey, tossRequest, idempotencyKey)
+					.flatMap(tossCancel -> inTransaction(() -> applyCancel(
+						paymentKey, tossCancel, plan.cancelAmount(), request.cancelReason(), idempotencyKey)))
+					.onErrorResume(TossApiException.class, e ->
+						// ✅ 토스: 이미 취소됨 -> 성공처럼 처리 + DB 보정
+						"ALREADY_CANCELED_PAYMENT".equals(e.getTossErrorCode())
+							? inTransaction(() -> applyAlreadyCanceled(paymentKey, idempotencyKey))
+							: Mono.error(e))
+					.onErrorResume(DataIntegrityViolationException.class, e ->
+						replayOrError(idempotencyKey, ResCancelResultV1.class, e));
+			});
+	}
+
+	/**
+	 * 취소 금액 계산
+	 * - 같은 요청 키로 이미 처리됐거나 이미 전액 취소면 완료 응답을 담아 돌려준다. (멱등)
+	 * - 재시도된 부분취소는 잔액이 줄어 금액 검증에 걸릴 수 있으므로 기록된 응답부터 확인한다.
+	 */
+	private CancelPlan planCancel(String paymentKey, ReqCancelPaymentV1 request, String requestKey) {
+		if (requestKey == null || requestKey.isBlank() || requestKey.length() > MAX_CANCEL_REQUEST_KEY_LENGTH) {
+			throw new PaymentException(HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+				"Idempotency-Key는 1~" + MAX_CANCEL_REQUEST_KEY_LENGTH + "자여야 합니다.");
+		}
+		String idempotencyKey = PaymentIdempotencyService.cancelKey(paymentKey, requestKey);
+
+		Optional<ResCancelResultV1> replay = paymentIdempotencyService.find(idempotencyKey, ResCancelResultV1.class);
+		if (replay.isPresent()) {
+			return CancelPlan.completed(replay.get());
+		}
+
+		Payment payment = getPaymentByPaymentKey(paymentKey);
 
 		// ✅ 멱등: 이미 전액 취소면 성공 응답
 		if (payment.isAlreadyCancelled()) {
-			return ResCancelResultV1.of(
-				payment.getPaymentKey(),
-				payment.getStatus().name(),
-				payment.getCanceledAmount()
-			);
+			return CancelPlan.completed(toCancelResult(payment));
 		}
 
-		long remaining = payment.getAmount() - payment.getCanceledAmount();
+		long remaining = payment.getRemainingAmount();
 		Long cancelAmount = (request.cancelAmount() == null) ? remaining : request.cancelAmount();
 
 		if (cancelAmount == null || cancelAmount <= 0) {
@@ -238,40 +379,33 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 			throw new PaymentException(HttpStatus.BAD_REQUEST, "EXCEED_CANCEL_AMOUNT", "취소 가능 금액을 초과했습니다.");
 		}
 
-		TossCancelResponse tossCancel;
-		try {
-			tossCancel = tossPaymentPort.cancel(
-				paymentKey,
-				new TossCancelRequest(request.cancelReason(), cancelAmount)
-			);
-		} catch (TossApiException e) {
-
-			// ✅ 토스: 이미 취소됨 -> 성공처럼 처리 + DB 보정
-			if ("ALREADY_CANCELED_PAYMENT".equals(e.getTossErrorCode())) {
-
-				long remainingNow = payment.getAmount() - payment.getCanceledAmount();
-				if (remainingNow > 0) {
-					OffsetDateTime canceledAt = OffsetDateTime.now();
-
-					PaymentCancel cancel = new PaymentCancel(
-						paymentKey,
-						remainingNow,
-						"(IDEMPOTENT) already canceled in PG",
-						canceledAt
-					);
+		return CancelPlan.pending(cancelAmount, idempotencyKey);
+	}
 
-					payment.addCancel(cancel);
-					paymentRepository.save(payment);
-				}
+	private ResCancelResultV1 applyCancel(
+		String paymentKey,
+		TossCancelResponse tossCancel,
+		Long cancelAmount,
+		String cancelReason,
+		String idempotencyKey
+	) {
+		Payment payment = getPaymentByPaymentKeyWithLock(paymentKey);
 
-				return ResCancelResultV1.of(
-					payment.getPaymentKey(),
-					payment.getStatus().name(),
-					payment.getCanceledAmount()
-				);
-			}
+		// 락을 잡은 뒤 다시 확인: 같은 키의 다른 요청이 먼저 반영했을 수 있다.
+		Optional<ResCancelResultV1> replay = paymentIdempotencyService.find(idempotencyKey, ResCancelResultV1.class);
+		if (replay.isPresent()) {
+			return replay.get();
+		}
 
-			throw e;
+		// PG는 이미 취소했으므로 DB에 반영하되, 잔액을 넘지 않게 보정한다.
+		long remaining = payment.getRemainingAmount();
+		long appliedAmount = Math.min(cancelAmount, remaining);
+		if (appliedAmount < cancelAmount) {
+			log.warn("취소 반영 금액 보정 - paymentKey={}, requested={}, remaining={}",
+				paymentKey, cancelAmount, remaining);
+		}
+		if (appliedAmount <= 0) {
+			return toCancelResult(payment);
 		}
 
 		// ✅ canceledAt null 방지 + 타입 일치(OffsetDateTime)
@@ -281,8 +415,8 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 
 		PaymentCancel cancel = new PaymentCancel(
 			tossCancel.paymentKey(),
-			cancelAmount,
-			request.cancelReason(),
+			appliedAmount,
+			cancelReason,
 			canceledAt
 		);
 
@@ -290,10 +424,113 @@ public class PaymentCommandService implements ConfirmPaymentUseCase, CancelPayme
 
 		Payment saved = paymentRepository.save(payment);
 
+		ResCancelResultV1 response = toCancelResult(saved);
+		paymentIdempotencyService.record(idempotencyKey, response);
+		return response;
+	}
+
+	private ResCancelResultV1 applyAlreadyCanceled(String paymentKey, String idempotencyKey) {
+		Payment payment = getPaymentByPaymentKeyWithLock(paymentKey);
+
+		Optional<ResCancelResultV1> replay = paymentIdempotencyService.find(idempotencyKey, ResCancelResultV1.class);
+		if (replay.isPresent()) {
+			return replay.get();
+		}
+
+		long remainingNow = payment.getRemainingAmount();
+		if (remainingNow > 0) {
+			PaymentCancel cancel = new PaymentCancel(
+				paymentKey,
+				remainingNow,
+				"(IDEMPOTENT) already canceled in PG",
+				OffsetDateTime.now()
+			);
+
+			payment.addCancel(cancel);
+			paymentRepository.save(payment);
+		}
+
+		ResCancelResultV1 response = toCancelResult(payment);
+		paymentIdempotencyService.record(idempotencyKey, response);
+		return response;
+	}
+
+	/**
+	 * 멱등키 유니크 충돌 → 먼저 커밋된 요청의 응답을 돌려준다. (없으면 원래 예외)
+	 */
+	private <T> Mono<T> replayOrError(String idempotencyKey, Class<T> responseType, RuntimeException cause) {
+		return inTransaction(() -> paymentIdempotencyService.find(idempotencyKey, responseType).orElse(null))
+			.switchIfEmpty(Mono.error(cause));
+	}
+
+	private Payment getPaymentByOrderId(UUID orderId) {
+		return paymentRepository.findByOrderId(orderId)
+			.orElseThrow(() -> new PaymentException(
+				HttpStatus.NOT_FOUND,
+				"PAYMENT_NOT_FOUND",
+				"결제 정보를 찾을 수 없습니다."
+			));
+	}
+
+	private Payment getPaymentByPaymentKey(String paymentKey) {
+		return paymentRepository.findByPaymentKey(paymentKey)
+			.orElseThrow(() -> new PaymentException(
+				HttpStatus.NOT_FOUND,
+				"PAYMENT_NOT_FOUND",
+				"결제 정보를 찾을 수 없습니다."
+			));
+	}
+
+	private Payment getPaymentByPaymentKeyWithLock(String paymentKey) {
+		return paymentRepository.findByPaymentKeyWithLock(paymentKey)
+			.orElseThrow(() -> new PaymentException(
+				HttpStatus.NOT_FOUND,
+				"PAYMENT_NOT_FOUND",
+				"결제 정보를 찾을 수 없습니다."
+			));
+	}
+
+	private ResCancelResultV1 toCancelResult(Payment payment) {
 		return ResCancelResultV1.of(
-			saved.getPaymentKey(),
-			saved.getStatus().name(),
-			saved.getCanceledAmount()
+			payment.getPaymentKey(),
+			payment.getStatus().name(),
+			payment.getCanceledAmount()
 		);
 	}
+
+	/**
+	 * JPA 작업은 블로킹이므로 boundedElastic 에서 짧은 트랜잭션으로 실행한다.
+	 */
+	private <T> Mono<T> inTransaction(Supplier<T> action) {
+		return Mono.fromCallable(() -> transactionTemplate.execute(status -> action.get()))
+			.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * 승인 계획: completed 가 있으면 이미 승인 완료, 없으면 PG 승인 후 paymentId 에 반영
+	 */
+	private record ConfirmPlan(ResPaymentV1 completed, UUID paymentId) {
+
+		static ConfirmPlan completed(ResPaymentV1 result) {
+			return new ConfirmPlan(result, null);
+		}
+
+		static ConfirmPlan pending(UUID paymentId) {
+			return new ConfirmPlan(null, paymentId);
+		}
+	}
+
+	/**
+	 * 취소 계획: completed 가 있으면 이미 취소 완료, 없으면 cancelAmount 만큼 PG 취소
+	 */
+	private record CancelPlan(ResCancelResultV1 completed, Long cancelAmount, String idempotencyKey) {
+
+		static CancelPlan completed(ResCancelResultV1 result) {
+			return new CancelPlan(result, null, null);
+		}
+
+		static CancelPlan pending(Long cancelAmount, String idempotencyKey) {
+			return new CancelPlan(null, cancelAmount, idempotencyKey);
+		}
+	}
 }
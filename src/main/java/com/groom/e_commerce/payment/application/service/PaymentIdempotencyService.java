@@ -0,0 +1,120 @@
+package com.groom.e_commerce.payment.application.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.e_commerce.payment.domain.entity.PaymentIdempotency;
+import com.groom.e_commerce.payment.domain.repository.PaymentIdempotencyRepository;
+
+/**
+ * 결제 승인/취소 멱등 처리
+ * - 승인 멱등키는 주문에서 유도하고, 취소 멱등키는 호출자가 준 요청 키에서 만든다.
+ *   (재시도해도 같은 키 → PG가 중복 처리하지 않음)
+ * - 처리 결과는 결제 상태와 같은 트랜잭션에 저장하고, 커밋 후 로컬 캐시에 올려 중복 요청은 PG 호출 없이 응답한다.
+ */
+@Service
+public class PaymentIdempotencyService {
+
+	private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+	private static final long CACHE_MAX_SIZE = 10_000L;
+
+	private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+	private final ObjectMapper objectMapper;
+	private final Cache<String, Object> replayCache;
+
+	public PaymentIdempotencyService(
+		PaymentIdempotencyRepository paymentIdempotencyRepository,
+		ObjectMapper objectMapper
+	) {
+		this.paymentIdempotencyRepository = paymentIdempotencyRepository;
+		this.objectMapper = objectMapper;
+		this.replayCache = Caffeine.newBuilder()
+			.expireAfterWrite(CACHE_TTL)
+			.maximumSize(CACHE_MAX_SIZE)
+			.build();
+	}
+
+	/**
+	 * 승인 멱등키: 주문 + PG 결제 키 (같은 주문이라도 다른 결제 키의 요청은 기록된 응답을 재사용하지 않는다)
+	 * 재사용할 때는 호출하는 쪽에서 응답의 금액이 요청과 같은지 다시 확인한다.
+	 */
+	public static String confirmKey(UUID orderId, String paymentKey) {
+		return "confirm:" + orderId + ":" + paymentKey;
+	}
+
+	/**
+	 * 취소 멱등키: 호출자가 취소 요청마다 정한 키 (API 는 Idempotency-Key 헤더, 주문 취소 환불은 주문 ID)
+	 * 결제 상태(누적 취소 금액 등)는 첫 요청이 커밋되면 바뀌므로 키에 넣지 않는다.
+	 */
+	public static String cancelKey(String paymentKey, String requestKey) {
+		return "cancel:" + paymentKey + ":" + requestKey;
+	}
+
+	/**
+	 * 로컬 캐시만 조회 (DB/PG 접근 없음)
+	 */
+	public <T> Optional<T> findCached(String idempotencyKey, Class<T> responseType) {
+		Object cached = replayCache.getIfPresent(idempotencyKey);
+		return responseType.isInstance(cached) ? Optional.of(responseType.cast(cached)) : Optional.empty();
+	}
+
+	/**
+	 * 캐시 → DB 순으로 조회 (트랜잭션 안에서 호출)
+	 */
+	public <T> Optional<T> find(String idempotencyKey, Class<T> responseType) {
+		Optional<T> cached = findCached(idempotencyKey, responseType);
+		if (cached.isPresent()) {
+			return cached;
+		}
+
+		return paymentIdempotencyRepository.findByIdempotencyKey(idempotencyKey)
+			.map(saved -> {
+				T response = readJson(saved.getResponseBody(), responseType);
+				replayCache.put(idempotencyKey, response);
+				return response;
+			});
+	}
+
+	/**
+	 * 처리 결과 기록 (결제 상태 변경과 같은 트랜잭션에서 호출)
+	 * 같은 키가 동시에 기록되면 유니크 제약으로 나중 트랜잭션이 롤백된다.
+	 */
+	public void record(String idempotencyKey, Object response) {
+		paymentIdempotencyRepository.save(new PaymentIdempotency(idempotencyKey, writeJson(response)));
+
+		// 롤백된 결과가 캐시에 남지 않도록 커밋 후에 올린다.
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					replayCache.put(idempotencyKey, response);
+				}
+			});
+		}
+	}
+
+	private String writeJson(Object response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등 응답 직렬화 실패", e);
+		}
+	}
+
+	private <T> T readJson(String body, Class<T> responseType) {
+		try {
+			return objectMapper.readValue(body, responseType);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등 응답 역직렬화 실패", e);
+		}
+	}
+}
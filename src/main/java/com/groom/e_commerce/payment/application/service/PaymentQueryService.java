@@ -4,42 +4,59 @@ import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.groom.e_commerce.payment.application.port.in.GetPaymentUseCase;
 import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
 import com.groom.e_commerce.payment.domain.entity.Payment;
 import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
-import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
 import com.groom.e_commerce.payment.presentation.dto.response.ResPaymentV1;
 import com.groom.e_commerce.payment.presentation.exception.PaymentException;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 @Service
-@Transactional(readOnly = true)
 public class PaymentQueryService implements GetPaymentUseCase {
 
 	private final PaymentRepository paymentRepository;
 	private final TossPaymentPort tossPaymentPort;
+	private final TransactionTemplate readOnlyTransactionTemplate;
 
-	public PaymentQueryService(PaymentRepository paymentRepository, TossPaymentPort tossPaymentPort) {
+	public PaymentQueryService(
+		PaymentRepository paymentRepository,
+		TossPaymentPort tossPaymentPort,
+		PlatformTransactionManager transactionManager
+	) {
 		this.paymentRepository = paymentRepository;
 		this.tossPaymentPort = tossPaymentPort;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
 	}
 
 	@Override
-	public ResPaymentV1 getByPaymentKey(String paymentKey) {
+	public Mono<ResPaymentV1> getByPaymentKey(String paymentKey) {
 		// 내부에 있으면 내부 우선
-		Payment payment = paymentRepository.findByPaymentKey(paymentKey).orElse(null);
-		if (payment != null) {
-			return ResPaymentV1.from(payment);
-		}
+		Mono<ResPaymentV1> internal = Mono.fromCallable(() -> findInternal(paymentKey))
+			.subscribeOn(Schedulers.boundedElastic());
 
 		// 없으면 토스 조회 후 반환(필요 시 저장 로직 추가 가능)
-		TossPaymentResponse toss = tossPaymentPort.getPayment(paymentKey);
-		return ResPaymentV1.fromToss(toss);
+		Mono<ResPaymentV1> fromToss = Mono.defer(() -> tossPaymentPort.getPayment(paymentKey))
+			.map(ResPaymentV1::fromToss);
+
+		return internal.switchIfEmpty(fromToss);
+	}
+
+	private ResPaymentV1 findInternal(String paymentKey) {
+		return readOnlyTransactionTemplate.execute(status -> paymentRepository.findByPaymentKey(paymentKey)
+			.map(ResPaymentV1::from)
+			.orElse(null));
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public ResPaymentV1 getByOrderId(String orderId) {
 		// ✅ orderId는 ERD 기준 UUID라서 변환
 		UUID orderUuid;
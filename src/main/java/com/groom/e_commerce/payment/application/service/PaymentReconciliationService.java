@@ -0,0 +1,189 @@
+package com.groom.e_commerce.payment.application.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
+import com.groom.e_commerce.payment.domain.repository.PaymentReconcileTarget;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.infrastructure.config.PaymentReconciliationProperties;
+import com.groom.e_commerce.payment.presentation.exception.TossApiException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 대사(reconciliation) 배치
+ * 1) 대사 대상(READY 방치 / 최근 변경)을 paymentId 키셋으로 페이지 단위 조회
+ * 2) 페이지 안에서 PG 조회를 동시성·초당 호출 수 제한을 두고 논블로킹으로 수행
+ * 3) 페이지마다 한 트랜잭션에서 행 락을 잡고 PG 상태를 반영 (JDBC 배치로 묶임)
+ * 전체 실행은 몇 시간이 걸릴 수 있으므로 스케줄러 스레드가 아닌 전용 스레드에서 돌린다.
+ * (스케줄러 스레드를 잡고 있으면 Outbox 릴레이, 웹훅 워커 등 다른 @Scheduled 작업이 멈춘다)
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService {
+
+	private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+	private final PaymentRepository paymentRepository;
+	private final TossPaymentPort tossPaymentPort;
+	private final PaymentStatusSynchronizer paymentStatusSynchronizer;
+	private final PaymentReconciliationProperties properties;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "payment-reconciliation");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PaymentReconciliationService(
+		PaymentRepository paymentRepository,
+		TossPaymentPort tossPaymentPort,
+		PaymentStatusSynchronizer paymentStatusSynchronizer,
+		PaymentReconciliationProperties properties,
+		PlatformTransactionManager transactionManager
+	) {
+		this.paymentRepository = paymentRepository;
+		this.tossPaymentPort = tossPaymentPort;
+		this.paymentStatusSynchronizer = paymentStatusSynchronizer;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	@Scheduled(cron = "${payment.reconciliation.cron:0 0 3 * * *}")
+	public void scheduledReconcile() {
+		if (!properties.enabled()) {
+			return;
+		}
+		// 이전 실행이 아직 끝나지 않았으면 겹쳐 돌리지 않는다.
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이전 PG 대사가 아직 진행 중 - 이번 실행은 건너뜀");
+			return;
+		}
+		try {
+			runner.execute(this::runReconcile);
+		} catch (RejectedExecutionException e) {
+			// 종료 중
+			running.set(false);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		runner.shutdownNow();
+	}
+
+	private void runReconcile() {
+		try {
+			ReconcileResult result = reconcile(OffsetDateTime.now());
+			log.info("PG 대사 완료 - checked={}, corrected={}, failed={}",
+				result.checked(), result.corrected(), result.failed());
+		} catch (RuntimeException e) {
+			log.warn("PG 대사 실패", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public ReconcileResult reconcile(OffsetDateTime now) {
+		OffsetDateTime from = now.minus(properties.lookback());
+		OffsetDateTime readyBefore = now.minus(properties.readyGrace());
+		Duration interval = Duration.ofNanos(TimeUnit.SECONDS.toNanos(1) / properties.ratePerSecond());
+
+		AtomicInteger failed = new AtomicInteger();
+		int checked = 0;
+		int corrected = 0;
+		UUID cursor = FIRST_CURSOR;
+
+		while (true) {
+			UUID after = cursor;
+			List<PaymentReconcileTarget> page = readOnlyTransactionTemplate.execute(status ->
+				paymentRepository.findReconcileTargets(from, readyBefore, from, after, properties.pageSize()));
+			if (page == null || page.isEmpty()) {
+				break;
+			}
+			cursor = page.get(page.size() - 1).paymentId();
+
+			List<PgSnapshot> snapshots = Flux.fromIterable(page)
+				.delayElements(interval)
+				.flatMap(target -> fetch(target, failed), properties.concurrency())
+				.collectList()
+				.block();
+
+			checked += page.size();
+			corrected += applyPage(snapshots);
+
+			if (page.size() < properties.pageSize()) {
+				break;
+			}
+		}
+
+		return new ReconcileResult(checked, corrected, failed.get());
+	}
+
+	private Mono<PgSnapshot> fetch(PaymentReconcileTarget target, AtomicInteger failed) {
+		Mono<TossPaymentResponse> response = target.paymentKey() != null
+			? tossPaymentPort.getPayment(target.paymentKey())
+			: tossPaymentPort.getPaymentByOrderId(target.orderId().toString());
+
+		return response
+			.map(toss -> new PgSnapshot(target.paymentId(), toss))
+			.onErrorResume(e -> {
+				// 결제창만 열고 떠난 주문은 PG에 결제 건이 없다.
+				if (e instanceof TossApiException tossError && tossError.getStatus() == HttpStatus.NOT_FOUND) {
+					return Mono.empty();
+				}
+				failed.incrementAndGet();
+				log.warn("PG 대사 조회 실패 - paymentId={}", target.paymentId(), e);
+				return Mono.empty();
+			});
+	}
+
+	private int applyPage(List<PgSnapshot> snapshots) {
+		if (snapshots == null || snapshots.isEmpty()) {
+			return 0;
+		}
+		Integer corrected = transactionTemplate.execute(status -> {
+			int count = 0;
+			for (PgSnapshot snapshot : snapshots) {
+				boolean changed = paymentRepository.findByIdWithLock(snapshot.paymentId())
+					.map(payment -> paymentStatusSynchronizer.apply(payment, snapshot.toss()))
+					.orElse(false);
+				if (changed) {
+					count++;
+				}
+			}
+			return count;
+		});
+		return corrected == null ? 0 : corrected;
+	}
+
+	private record PgSnapshot(UUID paymentId, TossPaymentResponse toss) {
+	}
+
+	public record ReconcileResult(int checked, int corrected, int failed) {
+	}
+}
@@ -0,0 +1,133 @@
+package com.groom.e_commerce.payment.application.service;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.entity.PaymentCancel;
+import com.groom.e_commerce.payment.domain.event.PaymentCompletedEvent;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PG 결제 상태 → 내부 Payment 반영 (대사/웹훅 공용)
+ * - 호출자가 잡은 트랜잭션(가능하면 행 락) 안에서 실행한다.
+ * - 이미 반영된 상태는 다시 바꾸지 않으므로 같은 응답을 여러 번 적용해도 안전하다.
+ * - PG 금액이 결제 금액과 다르면 자동으로 반영하지 않는다. (승인 API 의 금액 검증과 같은 기준)
+ */
+@Slf4j
+@Component
+public class PaymentStatusSynchronizer {
+
+	private static final String AGGREGATE_TYPE = "PAYMENT";
+	private static final String SYNC_CANCEL_REASON = "(SYNC) canceled in PG";
+
+	private static final String PG_CANCELED = "CANCELED";
+	private static final Set<String> PG_PAID_STATUSES = Set.of("DONE", "PARTIAL_CANCELED");
+	private static final Set<String> PG_FAILED_STATUSES = Set.of("ABORTED", "EXPIRED");
+
+	private final PaymentRepository paymentRepository;
+	private final OutboxEventPublisher outboxEventPublisher;
+
+	public PaymentStatusSynchronizer(
+		PaymentRepository paymentRepository,
+		OutboxEventPublisher outboxEventPublisher
+	) {
+		this.paymentRepository = paymentRepository;
+		this.outboxEventPublisher = outboxEventPublisher;
+	}
+
+	/**
+	 * @return 내부 상태가 바뀌었으면 true
+	 */
+	public boolean apply(Payment payment, TossPaymentResponse toss) {
+		boolean changed = false;
+
+		if (payment.getStatus() == PaymentStatus.READY) {
+			if ((PG_PAID_STATUSES.contains(toss.status()) || PG_CANCELED.equals(toss.status()))
+				&& !Objects.equals(toss.totalAmount(), payment.getAmount())) {
+				log.error("PG 결제 금액 불일치 - 반영하지 않음 (확인 필요) - paymentId={}, amount={}, pgAmount={}",
+					payment.getPaymentId(), payment.getAmount(), toss.totalAmount());
+				return false;
+			}
+			if (PG_PAID_STATUSES.contains(toss.status())) {
+				markPaid(payment, toss);
+				changed = true;
+			} else if (PG_CANCELED.equals(toss.status())) {
+				// 이미 전액 취소된 결제는 결제 완료 이벤트 없이 바로 취소로 보정
+				cancelInPg(payment, toss);
+				changed = true;
+			} else if (PG_FAILED_STATUSES.contains(toss.status())) {
+				payment.markFailed();
+				changed = true;
+			}
+		}
+
+		if (payment.getStatus() == PaymentStatus.PAID) {
+			changed |= applyMissingCancel(payment, toss);
+		}
+
+		if (changed) {
+			paymentRepository.save(payment);
+		}
+		return changed;
+	}
+
+	private void markPaid(Payment payment, TossPaymentResponse toss) {
+		payment.markPaid(toss.paymentKey(), toss.approvedAt());
+
+		// 주문 결제 완료 처리는 승인 API와 같은 Outbox 이벤트로
+		outboxEventPublisher.publish(AGGREGATE_TYPE, payment.getPaymentId(), PaymentCompletedEvent.TYPE,
+			new PaymentCompletedEvent(
+				payment.getPaymentId(), payment.getOrderId(), payment.getPaymentKey(), payment.getAmount()));
+	}
+
+	private void cancelInPg(Payment payment, TossPaymentResponse toss) {
+		log.info("PG 전액 취소 보정 - paymentKey={}, amount={}", toss.paymentKey(), payment.getRemainingAmount());
+		payment.attachPaymentKey(toss.paymentKey(), toss.approvedAt());
+		payment.addCancel(new PaymentCancel(
+			toss.paymentKey(),
+			payment.getRemainingAmount(),
+			SYNC_CANCEL_REASON,
+			latestCanceledAt(toss)
+		));
+	}
+
+	/**
+	 * PG 누적 취소 금액이 더 크면 차액을 취소 이력 1건으로 보정한다.
+	 */
+	private boolean applyMissingCancel(Payment payment, TossPaymentResponse toss) {
+		long missing = Math.min(
+			toss.totalCanceledAmount() - payment.getCanceledAmount(),
+			payment.getRemainingAmount()
+		);
+		if (missing <= 0) {
+			return false;
+		}
+
+		log.info("PG 취소 보정 - paymentKey={}, amount={}", payment.getPaymentKey(), missing);
+		payment.addCancel(new PaymentCancel(
+			payment.getPaymentKey(),
+			missing,
+			SYNC_CANCEL_REASON,
+			latestCanceledAt(toss)
+		));
+		return true;
+	}
+
+	private OffsetDateTime latestCanceledAt(TossPaymentResponse toss) {
+		return toss.cancels().stream()
+			.map(TossPaymentResponse.Cancel::canceledAt)
+			.filter(Objects::nonNull)
+			.max(Comparator.naturalOrder())
+			.orElseGet(OffsetDateTime::now);
+	}
+}
@@ -0,0 +1,58 @@
+package com.groom.e_commerce.payment.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.payment.application.port.in.ReceivePaymentWebhookUseCase;
+import com.groom.e_commerce.payment.domain.entity.PaymentWebhookEvent;
+import com.groom.e_commerce.payment.domain.repository.PaymentWebhookEventRepository;
+import com.groom.e_commerce.payment.presentation.dto.request.ReqPaymentWebhookV1;
+import com.groom.e_commerce.payment.presentation.exception.PaymentException;
+
+/**
+ * 웹훅 수신: 식별자만 확인해 수신함에 INSERT 하고 바로 응답한다.
+ * PG 조회/결제 반영은 PaymentWebhookWorker 가 한다.
+ */
+@Service
+public class PaymentWebhookService implements ReceivePaymentWebhookUseCase {
+
+	private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+	private final ObjectMapper objectMapper;
+
+	public PaymentWebhookService(
+		PaymentWebhookEventRepository paymentWebhookEventRepository,
+		ObjectMapper objectMapper
+	) {
+		this.paymentWebhookEventRepository = paymentWebhookEventRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	@Transactional
+	public void receive(String payload) {
+		ReqPaymentWebhookV1 webhook = parse(payload);
+		paymentWebhookEventRepository.save(
+			new PaymentWebhookEvent(webhook.eventType(), webhook.data().paymentKey(), payload));
+	}
+
+	private ReqPaymentWebhookV1 parse(String payload) {
+		ReqPaymentWebhookV1 webhook;
+		try {
+			webhook = objectMapper.readValue(payload, ReqPaymentWebhookV1.class);
+		} catch (JsonProcessingException e) {
+			throw invalidWebhook();
+		}
+		if (webhook == null || webhook.data() == null
+			|| webhook.data().paymentKey() == null || webhook.data().paymentKey().isBlank()) {
+			throw invalidWebhook();
+		}
+		return webhook;
+	}
+
+	private PaymentException invalidWebhook() {
+		return new PaymentException(HttpStatus.BAD_REQUEST, "INVALID_WEBHOOK", "웹훅 본문에 paymentKey 가 없습니다.");
+	}
+}
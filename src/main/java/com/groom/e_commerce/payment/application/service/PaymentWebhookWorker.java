@@ -0,0 +1,182 @@
+package com.groom.e_commerce.payment.application.service;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.entity.PaymentWebhookEvent;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.domain.repository.PaymentWebhookEventRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.infrastructure.config.PaymentWebhookProperties;
+import com.groom.e_commerce.payment.presentation.exception.TossApiException;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 웹훅 수신함 처리 워커
+ * 1) 짧은 트랜잭션으로 처리할 이벤트를 SKIP LOCKED 로 점유 (여러 노드가 나눠 가짐)
+ * 2) paymentKey 별로 한 번씩 PG를 조회해 본문을 검증 (논블로킹, 동시성 제한)
+ * 3) paymentKey 별로 별도 트랜잭션에서 행 락을 잡고 반영 → 같은 결제의 중복 이벤트는 한 번만 반영된다.
+ *    한 결제의 반영이 실패해도 그 결제의 이벤트만 재시도되고, 나머지 결제는 그대로 커밋된다.
+ */
+@Slf4j
+@Component
+public class PaymentWebhookWorker {
+
+	private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+	private final PaymentRepository paymentRepository;
+	private final TossPaymentPort tossPaymentPort;
+	private final PaymentStatusSynchronizer paymentStatusSynchronizer;
+	private final PaymentWebhookProperties properties;
+	private final TransactionTemplate transactionTemplate;
+
+	public PaymentWebhookWorker(
+		PaymentWebhookEventRepository paymentWebhookEventRepository,
+		PaymentRepository paymentRepository,
+		TossPaymentPort tossPaymentPort,
+		PaymentStatusSynchronizer paymentStatusSynchronizer,
+		PaymentWebhookProperties properties,
+		PlatformTransactionManager transactionManager
+	) {
+		this.paymentWebhookEventRepository = paymentWebhookEventRepository;
+		this.paymentRepository = paymentRepository;
+		this.tossPaymentPort = tossPaymentPort;
+		this.paymentStatusSynchronizer = paymentStatusSynchronizer;
+		this.properties = properties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Scheduled(fixedDelayString = "${payment.webhook.fixed-delay-ms:1000}")
+	public void scheduledProcess() {
+		if (!properties.enabled()) {
+			return;
+		}
+		List<ClaimedEvent> claimed;
+		do {
+			claimed = claimBatch();
+			processBatch(claimed);
+		} while (claimed.size() == properties.batchSize());
+	}
+
+	List<ClaimedEvent> claimBatch() {
+		List<ClaimedEvent> claimed = transactionTemplate.execute(status -> {
+			OffsetDateTime now = OffsetDateTime.now();
+			List<PaymentWebhookEvent> events =
+				paymentWebhookEventRepository.findAvailableForUpdate(now, properties.batchSize());
+			events.forEach(event -> event.markProcessing(now.plus(properties.lease())));
+			return events.stream()
+				.map(event -> new ClaimedEvent(event.getWebhookEventId(), event.getPaymentKey()))
+				.toList();
+		});
+		return claimed != null ? claimed : List.of();
+	}
+
+	void processBatch(List<ClaimedEvent> claimed) {
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		// 같은 결제의 이벤트가 몰려 와도 PG 조회는 한 번
+		Map<String, Throwable> errors = new ConcurrentHashMap<>();
+		Map<String, TossPaymentResponse> verified = Flux.fromStream(
+				claimed.stream().map(ClaimedEvent::paymentKey).distinct())
+			.flatMap(paymentKey -> tossPaymentPort.getPayment(paymentKey)
+					.map(toss -> Map.entry(paymentKey, toss))
+					.doOnError(e -> errors.put(paymentKey, e))
+					.onErrorComplete(),
+				properties.concurrency())
+			.collectMap(Map.Entry::getKey, Map.Entry::getValue)
+			.block();
+
+		Map<String, List<UUID>> eventIdsByPaymentKey = claimed.stream()
+			.collect(Collectors.groupingBy(ClaimedEvent::paymentKey, LinkedHashMap::new,
+				Collectors.mapping(ClaimedEvent::webhookEventId, Collectors.toList())));
+		Map<String, TossPaymentResponse> verifiedPayments = verified == null ? Map.of() : verified;
+		eventIdsByPaymentKey.forEach((paymentKey, ids) ->
+			applyPayment(paymentKey, ids, verifiedPayments.get(paymentKey), errors.get(paymentKey)));
+	}
+
+	// 결제 하나 = 트랜잭션 하나. 실패하면 이 결제의 이벤트만 재시도한다.
+	private void applyPayment(String paymentKey, List<UUID> ids, TossPaymentResponse toss, Throwable error) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> apply(ids, toss, error));
+		} catch (Exception e) {
+			log.warn("웹훅 반영 실패 - paymentKey={}, events={}", paymentKey, ids.size(), e);
+			transactionTemplate.executeWithoutResult(status -> retry(ids, e));
+		}
+	}
+
+	private void apply(List<UUID> ids, TossPaymentResponse toss, Throwable error) {
+		if (toss != null) {
+			lockPayment(toss).ifPresentOrElse(
+				payment -> paymentStatusSynchronizer.apply(payment, toss),
+				() -> log.warn("웹훅 대상 결제 없음 - paymentKey={}, orderId={}", toss.paymentKey(), toss.orderId())
+			);
+		}
+
+		OffsetDateTime now = OffsetDateTime.now();
+		for (PaymentWebhookEvent event : paymentWebhookEventRepository.findAllById(ids)) {
+			if (toss != null) {
+				event.markProcessed();
+			} else if (isNotFound(error)) {
+				// PG에 없는 결제 → 위조/오배송 이벤트
+				event.markFailed("PG에 존재하지 않는 paymentKey");
+			} else {
+				event.markRetry(error != null ? error.getMessage() : "PG 조회 결과 없음",
+					properties.maxAttempts(), now.plusSeconds(retryDelaySeconds(event.getAttempts())));
+			}
+		}
+	}
+
+	private Optional<Payment> lockPayment(TossPaymentResponse toss) {
+		Optional<Payment> byPaymentKey = paymentRepository.findByPaymentKeyWithLock(toss.paymentKey());
+		if (byPaymentKey.isPresent()) {
+			return byPaymentKey;
+		}
+		// 승인 전(READY) 결제는 paymentKey 가 아직 없으므로 주문 ID 로 찾는다.
+		return parseOrderId(toss.orderId())
+			.flatMap(paymentRepository::findByOrderId)
+			.flatMap(payment -> paymentRepository.findByIdWithLock(payment.getPaymentId()));
+	}
+
+	private void retry(List<UUID> ids, Exception cause) {
+		OffsetDateTime now = OffsetDateTime.now();
+		paymentWebhookEventRepository.findAllById(ids).forEach(event -> event.markRetry(
+			cause.getMessage(), properties.maxAttempts(), now.plusSeconds(retryDelaySeconds(event.getAttempts()))));
+	}
+
+	private boolean isNotFound(Throwable error) {
+		return error instanceof TossApiException tossError && tossError.getStatus() == HttpStatus.NOT_FOUND;
+	}
+
+	private Optional<UUID> parseOrderId(String orderId) {
+		try {
+			return Optional.ofNullable(orderId).map(UUID::fromString);
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	// 5s, 10s, 20s ... 최대 10분
+	private long retryDelaySeconds(int attempts) {
+		return Math.min(600L, 5L << Math.min(attempts, 7));
+	}
+
+	record ClaimedEvent(UUID webhookEventId, String paymentKey) {
+	}
+}
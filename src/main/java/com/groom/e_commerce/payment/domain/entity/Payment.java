@@ -5,6 +5,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 import com.groom.e_commerce.payment.domain.model.PaymentStatus;
 
 import jakarta.persistence.CascadeType;
@@ -12,11 +15,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -25,7 +28,9 @@ import jakarta.persistence.UniqueConstraint;
 	name = "p_payment",
 	indexes = {
 		@Index(name = "idx_payment_order_id", columnList = "order_id"),
-		@Index(name = "idx_payment_payment_key", columnList = "payment_key")
+		@Index(name = "idx_payment_payment_key", columnList = "payment_key"),
+		@Index(name = "idx_payment_status_created_at", columnList = "status, created_at"),
+		@Index(name = "idx_payment_updated_at", columnList = "updated_at")
 	},
 	uniqueConstraints = {
 		@UniqueConstraint(name = "uk_payment_order_id", columnNames = "order_id"),
@@ -35,7 +40,7 @@ import jakarta.persistence.UniqueConstraint;
 public class Payment {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "payment_id", nullable = false)
 	private UUID paymentId;
 
@@ -77,9 +82,26 @@ public class Payment {
 	@Column(name = "approved_at", nullable = true)
 	private OffsetDateTime approvedAt;
 
+	/**
+	 * 누적 취소 금액 (addCancel 에서 함께 갱신)
+	 * - 취소 합계를 읽을 때 cancels 컬렉션을 로딩하지 않도록 비정규화한다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "canceled_amount", nullable = false)
+	private Long canceledAmount = 0L;
+
 	@OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<PaymentCancel> cancels = new ArrayList<>();
 
+	/**
+	 * 대사(reconciliation) 대상 선정용 (READY 방치 건 / 최근 상태 변경 건)
+	 */
+	@Column(name = "created_at", updatable = false)
+	private OffsetDateTime createdAt;
+
+	@Column(name = "updated_at")
+	private OffsetDateTime updatedAt;
+
 	protected Payment() {
 	}
 
@@ -95,6 +117,17 @@ public class Payment {
 		this.approvedAt = null;
 	}
 
+	@PrePersist
+	void onCreate() {
+		this.createdAt = OffsetDateTime.now();
+		this.updatedAt = this.createdAt;
+	}
+
+	@PreUpdate
+	void onUpdate() {
+		this.updatedAt = OffsetDateTime.now();
+	}
+
 	/**
 	 * 결제 성공 처리 (Confirm 이후)
 	 * - paymentKey 세팅
@@ -107,6 +140,15 @@ public class Payment {
 		this.status = PaymentStatus.PAID;
 	}
 
+	/**
+	 * PG 에서 승인 후 이미 전액 취소된 결제 (대사/웹훅)
+	 * - 결제 완료(PAID)를 거치지 않고 paymentKey 만 남긴 뒤 취소 이력으로 CANCELLED 가 된다.
+	 */
+	public void attachPaymentKey(String paymentKey, OffsetDateTime approvedAt) {
+		this.paymentKey = paymentKey;
+		this.approvedAt = approvedAt;
+	}
+
 	/**
 	 * 결제 실패 처리
 	 */
@@ -116,23 +158,25 @@ public class Payment {
 
 	/**
 	 * 취소 이력 추가 + 전액 취소면 CANCELLED로 변경
-	 *
-	 * ⚠️ ERD에 canceled_amount 컬럼이 없으므로
-	 * 취소 합계는 cancels 합산으로 계산한다.
+	 * - 누적 취소 금액은 canceled_amount 컬럼으로 관리한다.
+	 * - 지연 로딩된 cancels 에 add 만 하므로 기존 취소 이력을 읽어오지 않는다.
 	 */
 	public void addCancel(PaymentCancel cancel) {
 		this.cancels.add(cancel);
 		cancel.setPayment(this);
+		this.canceledAmount = getCanceledAmount() + cancel.getCancelAmount();
 
-		if (getCanceledAmount() >= this.amount) {
+		if (this.canceledAmount >= this.amount) {
 			this.status = PaymentStatus.CANCELLED;
 		}
 	}
 
 	public long getCanceledAmount() {
-		return this.cancels.stream()
-			.mapToLong(PaymentCancel::getCancelAmount)
-			.sum();
+		return this.canceledAmount == null ? 0L : this.canceledAmount;
+	}
+
+	public long getRemainingAmount() {
+		return this.amount - getCanceledAmount();
 	}
 
 	public boolean isAlreadyPaid() {
@@ -176,4 +220,12 @@ public class Payment {
 	public List<PaymentCancel> getCancels() {
 		return cancels;
 	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public OffsetDateTime getUpdatedAt() {
+		return updatedAt;
+	}
 }
@@ -3,11 +3,11 @@ package com.groom.e_commerce.payment.domain.entity;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.groom.e_commerce.global.domain.entity.UuidV7;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -25,7 +25,7 @@ import jakarta.persistence.Table;
 public class PaymentCancel {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "cancel_id", nullable = false)
 	private UUID cancelId;
 
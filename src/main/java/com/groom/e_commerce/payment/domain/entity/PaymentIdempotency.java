@@ -0,0 +1,69 @@
+package com.groom.e_commerce.payment.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.groom.e_commerce.global.domain.entity.UuidV7;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * PG 호출 멱등키와 그 처리 결과
+ * - 같은 키로 다시 들어온 승인/취소 요청은 PG를 호출하지 않고 저장된 응답을 그대로 돌려준다.
+ * - 결제 상태 변경과 같은 트랜잭션에 기록된다.
+ */
+@Entity
+@Table(
+	name = "p_payment_idempotency",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_payment_idempotency_key", columnNames = "idempotency_key")
+	}
+)
+public class PaymentIdempotency {
+
+	@Id
+	@UuidV7
+	@Column(name = "idempotency_id", nullable = false)
+	private UUID idempotencyId;
+
+	@Column(name = "idempotency_key", nullable = false, length = 300)
+	private String idempotencyKey;
+
+	/**
+	 * 요청자에게 돌려준 응답(JSON)
+	 */
+	@Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+	private String responseBody;
+
+	@Column(name = "created_at", nullable = false)
+	private OffsetDateTime createdAt;
+
+	protected PaymentIdempotency() {
+	}
+
+	public PaymentIdempotency(String idempotencyKey, String responseBody) {
+		this.idempotencyKey = idempotencyKey;
+		this.responseBody = responseBody;
+		this.createdAt = OffsetDateTime.now();
+	}
+
+	public UUID getIdempotencyId() {
+		return idempotencyId;
+	}
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public String getResponseBody() {
+		return responseBody;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
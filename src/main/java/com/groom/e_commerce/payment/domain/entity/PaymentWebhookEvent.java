@@ -0,0 +1,154 @@
+package com.groom.e_commerce.payment.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.groom.e_commerce.global.domain.entity.UuidV7;
+import com.groom.e_commerce.payment.domain.model.PaymentWebhookStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * PG 웹훅 수신함(inbox)
+ * - 수신 즉시 INSERT 한 번으로 저장하고 응답하며, 반영은 PaymentWebhookWorker 가 비동기로 한다.
+ * - 본문은 신뢰하지 않고 paymentKey 로 PG를 다시 조회해 반영한다.
+ */
+@Entity
+@Table(
+	name = "p_payment_webhook_event",
+	indexes = @Index(name = "idx_payment_webhook_status_available", columnList = "status, available_at")
+)
+public class PaymentWebhookEvent {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@UuidV7
+	@Column(name = "webhook_event_id", nullable = false)
+	private UUID webhookEventId;
+
+	@Column(name = "event_type", length = 100)
+	private String eventType;
+
+	@Column(name = "payment_key", nullable = false, length = 200)
+	private String paymentKey;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private PaymentWebhookStatus status;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	// PENDING: 이 시각 이후 처리 / PROCESSING: 이 시각까지 점유
+	@Column(name = "available_at", nullable = false)
+	private OffsetDateTime availableAt;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "received_at", nullable = false, updatable = false)
+	private OffsetDateTime receivedAt;
+
+	@Column(name = "processed_at")
+	private OffsetDateTime processedAt;
+
+	protected PaymentWebhookEvent() {
+	}
+
+	public PaymentWebhookEvent(String eventType, String paymentKey, String payload) {
+		this.eventType = eventType;
+		this.paymentKey = paymentKey;
+		this.payload = payload;
+		this.status = PaymentWebhookStatus.PENDING;
+		this.attempts = 0;
+		this.receivedAt = OffsetDateTime.now();
+		this.availableAt = this.receivedAt;
+	}
+
+	public void markProcessing(OffsetDateTime leaseUntil) {
+		this.status = PaymentWebhookStatus.PROCESSING;
+		this.availableAt = leaseUntil;
+	}
+
+	public void markProcessed() {
+		this.status = PaymentWebhookStatus.PROCESSED;
+		this.processedAt = OffsetDateTime.now();
+		this.lastError = null;
+	}
+
+	// 실패: 최대 횟수 전까지는 지연 후 재시도, 넘으면 FAILED
+	public void markRetry(String error, int maxAttempts, OffsetDateTime retryAt) {
+		this.attempts++;
+		this.lastError = truncate(error);
+
+		if (this.attempts >= maxAttempts) {
+			this.status = PaymentWebhookStatus.FAILED;
+			return;
+		}
+		this.status = PaymentWebhookStatus.PENDING;
+		this.availableAt = retryAt;
+	}
+
+	// 재시도해도 의미 없는 이벤트 (예: PG에 없는 paymentKey)
+	public void markFailed(String error) {
+		this.attempts++;
+		this.status = PaymentWebhookStatus.FAILED;
+		this.lastError = truncate(error);
+	}
+
+	private String truncate(String error) {
+		return (error != null && error.length() > MAX_ERROR_LENGTH)
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+	}
+
+	public UUID getWebhookEventId() {
+		return webhookEventId;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public String getPaymentKey() {
+		return paymentKey;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public PaymentWebhookStatus getStatus() {
+		return status;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public OffsetDateTime getAvailableAt() {
+		return availableAt;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public OffsetDateTime getReceivedAt() {
+		return receivedAt;
+	}
+
+	public OffsetDateTime getProcessedAt() {
+		return processedAt;
+	}
+}
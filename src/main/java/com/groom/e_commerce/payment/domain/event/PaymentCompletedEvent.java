@@ -0,0 +1,16 @@
+package com.groom.e_commerce.payment.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 결제 승인 완료됨 → 주문 결제 완료 처리
+ */
+public record PaymentCompletedEvent(
+	UUID paymentId,
+	UUID orderId,
+	String paymentKey,
+	Long amount
+) {
+
+	public static final String TYPE = "PAYMENT_COMPLETED";
+}
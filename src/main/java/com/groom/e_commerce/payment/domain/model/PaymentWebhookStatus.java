@@ -0,0 +1,8 @@
+package com.groom.e_commerce.payment.domain.model;
+
+public enum PaymentWebhookStatus {
+	PENDING,     // 수신 완료, 처리 대기
+	PROCESSING,  // 워커가 점유 중
+	PROCESSED,   // 반영 완료
+	FAILED       // 재시도 초과 또는 PG에서 확인되지 않는 이벤트
+}
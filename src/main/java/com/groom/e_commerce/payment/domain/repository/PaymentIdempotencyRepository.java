@@ -0,0 +1,12 @@
+package com.groom.e_commerce.payment.domain.repository;
+
+import java.util.Optional;
+
+import com.groom.e_commerce.payment.domain.entity.PaymentIdempotency;
+
+public interface PaymentIdempotencyRepository {
+
+	PaymentIdempotency save(PaymentIdempotency idempotency);
+
+	Optional<PaymentIdempotency> findByIdempotencyKey(String idempotencyKey);
+}
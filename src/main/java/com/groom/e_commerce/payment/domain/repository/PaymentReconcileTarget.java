@@ -0,0 +1,13 @@
+package com.groom.e_commerce.payment.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * PG 대사 대상 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record PaymentReconcileTarget(
+	UUID paymentId,
+	UUID orderId,
+	String paymentKey
+) {
+}
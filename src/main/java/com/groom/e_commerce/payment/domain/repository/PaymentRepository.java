@@ -1,5 +1,7 @@
 package com.groom.e_commerce.payment.domain.repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +22,17 @@ public interface PaymentRepository {
 	Optional<Payment> findByIdWithLock(UUID paymentId);
 
 	Optional<Payment> findByPaymentKeyWithLock(String paymentKey);
+
+	/**
+	 * PG 대사 대상 (paymentId 키셋 페이징)
+	 * - createdFrom ~ readyBefore 사이에 생성되어 아직 READY 인 결제
+	 * - changedAfter 이후 상태가 바뀐 결제 (READY 제외)
+	 */
+	List<PaymentReconcileTarget> findReconcileTargets(
+		OffsetDateTime createdFrom,
+		OffsetDateTime readyBefore,
+		OffsetDateTime changedAfter,
+		UUID afterPaymentId,
+		int limit
+	);
 }
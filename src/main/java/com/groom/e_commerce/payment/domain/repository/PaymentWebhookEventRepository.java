@@ -0,0 +1,22 @@
+package com.groom.e_commerce.payment.domain.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.groom.e_commerce.payment.domain.entity.PaymentWebhookEvent;
+
+public interface PaymentWebhookEventRepository {
+
+	PaymentWebhookEvent save(PaymentWebhookEvent event);
+
+	Optional<PaymentWebhookEvent> findById(UUID webhookEventId);
+
+	List<PaymentWebhookEvent> findAllById(List<UUID> webhookEventIds);
+
+	/**
+	 * 처리할 이벤트를 잠그며 가져온다. 다른 워커가 잠근 행은 건너뛴다. (FOR UPDATE SKIP LOCKED)
+	 */
+	List<PaymentWebhookEvent> findAvailableForUpdate(OffsetDateTime now, int limit);
+}
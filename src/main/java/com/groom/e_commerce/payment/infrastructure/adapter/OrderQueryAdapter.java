@@ -0,0 +1,68 @@
+package com.groom.e_commerce.payment.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.e_commerce.order.domain.event.OrderStatusChangedEvent;
+import com.groom.e_commerce.order.domain.repository.OrderRepository;
+import com.groom.e_commerce.order.domain.repository.OrderSummaryView;
+import com.groom.e_commerce.payment.application.port.out.OrderQueryPort;
+import com.groom.e_commerce.payment.presentation.exception.PaymentException;
+
+/**
+ * 주문 요약 조회 (결제 준비용)
+ * - p_order 컬럼 프로젝션만 조회하고, 짧은 TTL 캐시로 토스 리다이렉트 흐름의 반복 호출을 흡수한다.
+ * - 주문 상태가 바뀌면(결제 완료/취소) 커밋 후 해당 주문을 캐시에서 제거한다.
+ */
+@Component
+@Profile("!stub")
+public class OrderQueryAdapter implements OrderQueryPort {
+
+	private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+	private static final long CACHE_MAX_SIZE = 10_000L;
+
+	private final OrderRepository orderRepository;
+	private final Cache<UUID, OrderSummary> cache;
+
+	public OrderQueryAdapter(OrderRepository orderRepository) {
+		this.orderRepository = orderRepository;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(CACHE_TTL)
+			.maximumSize(CACHE_MAX_SIZE)
+			.build();
+	}
+
+	@Override
+	public OrderSummary getOrderSummary(UUID orderId) {
+		return cache.get(orderId, this::load);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void evict(OrderStatusChangedEvent event) {
+		cache.invalidate(event.orderId());
+	}
+
+	private OrderSummary load(UUID orderId) {
+		OrderSummaryView view = orderRepository.findSummaryById(orderId)
+			.orElseThrow(() -> new PaymentException(
+				HttpStatus.NOT_FOUND,
+				"ORDER_NOT_FOUND",
+				"주문 정보를 찾을 수 없습니다."
+			));
+
+		return new OrderSummary(
+			view.orderId(),
+			view.totalPaymentAmount().longValueExact(),
+			view.orderNumber(),
+			view.recipientName()
+		);
+	}
+}
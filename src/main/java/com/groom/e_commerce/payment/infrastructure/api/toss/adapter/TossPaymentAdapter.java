@@ -1,5 +1,6 @@
 package com.groom.e_commerce.payment.infrastructure.api.toss.adapter;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
@@ -8,28 +9,104 @@ import com.groom.e_commerce.payment.infrastructure.api.toss.dto.request.TossCanc
 import com.groom.e_commerce.payment.infrastructure.api.toss.dto.request.TossConfirmRequest;
 import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossCancelResponse;
 import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.presentation.exception.PaymentException;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 토스 API 호출 보호
+ * - 작업(승인/취소/조회)별 서킷 브레이커 + 동시 호출 제한(bulkhead)
+ * - 재시도는 멱등한 조회에만 (승인/취소는 멱등키가 있어도 중복 과금 위험을 피하려고 재시도하지 않음)
+ * - 서킷이 열렸거나 동시 호출이 가득 차면 PG를 기다리지 않고 즉시 503으로 실패
+ * - 설정: application.yml resilience4j.* (toss-confirm / toss-cancel / toss-get)
+ */
 @Component
 public class TossPaymentAdapter implements TossPaymentPort {
 
+	static final String CONFIRM = "toss-confirm";
+	static final String CANCEL = "toss-cancel";
+	static final String GET = "toss-get";
+
 	private final TossPaymentsClient tossPaymentsClient;
+	private final Guard confirmGuard;
+	private final Guard cancelGuard;
+	private final Guard getGuard;
+	private final Retry getRetry;
 
-	public TossPaymentAdapter(TossPaymentsClient tossPaymentsClient) {
+	public TossPaymentAdapter(
+		TossPaymentsClient tossPaymentsClient,
+		CircuitBreakerRegistry circuitBreakerRegistry,
+		BulkheadRegistry bulkheadRegistry,
+		RetryRegistry retryRegistry
+	) {
 		this.tossPaymentsClient = tossPaymentsClient;
+		this.confirmGuard = Guard.of(CONFIRM, circuitBreakerRegistry, bulkheadRegistry);
+		this.cancelGuard = Guard.of(CANCEL, circuitBreakerRegistry, bulkheadRegistry);
+		this.getGuard = Guard.of(GET, circuitBreakerRegistry, bulkheadRegistry);
+		this.getRetry = retryRegistry.retry(GET);
+	}
+
+	@Override
+	public Mono<TossPaymentResponse> confirm(TossConfirmRequest request, String idempotencyKey) {
+		return failFast(confirmGuard.protect(tossPaymentsClient.confirm(request, idempotencyKey)));
 	}
 
 	@Override
-	public TossPaymentResponse confirm(TossConfirmRequest request) {
-		return tossPaymentsClient.confirm(request);
+	public Mono<TossCancelResponse> cancel(String paymentKey, TossCancelRequest request, String idempotencyKey) {
+		return failFast(cancelGuard.protect(tossPaymentsClient.cancel(paymentKey, request, idempotencyKey)));
 	}
 
 	@Override
-	public TossCancelResponse cancel(String paymentKey, TossCancelRequest request) {
-		return tossPaymentsClient.cancel(paymentKey, request);
+	public Mono<TossPaymentResponse> getPayment(String paymentKey) {
+		return failFast(getGuard.protect(tossPaymentsClient.getPayment(paymentKey))
+			.transformDeferred(RetryOperator.of(getRetry)));
 	}
 
 	@Override
-	public TossPaymentResponse getPayment(String paymentKey) {
-		return tossPaymentsClient.getPayment(paymentKey);
+	public Mono<TossPaymentResponse> getPaymentByOrderId(String orderId) {
+		return failFast(getGuard.protect(tossPaymentsClient.getPaymentByOrderId(orderId))
+			.transformDeferred(RetryOperator.of(getRetry)));
+	}
+
+	private <T> Mono<T> failFast(Mono<T> call) {
+		return call
+			.onErrorMap(CallNotPermittedException.class, e -> new PaymentException(
+				HttpStatus.SERVICE_UNAVAILABLE,
+				"PG_UNAVAILABLE",
+				"결제사 연동이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."
+			))
+			.onErrorMap(BulkheadFullException.class, e -> new PaymentException(
+				HttpStatus.SERVICE_UNAVAILABLE,
+				"PG_BUSY",
+				"결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+			));
+	}
+
+	/**
+	 * 작업별 보호 장치: 동시 호출 제한(바깥) → 서킷 브레이커(안쪽)
+	 * bulkhead 에서 거절된 호출은 서킷 브레이커 실패율에 섞이지 않는다.
+	 */
+	private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+
+		static Guard of(String name, CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+			return new Guard(circuitBreakerRegistry.circuitBreaker(name), bulkheadRegistry.bulkhead(name));
+		}
+
+		<T> Mono<T> protect(Mono<T> call) {
+			return call
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+				.transformDeferred(BulkheadOperator.of(bulkhead));
+		}
 	}
 }
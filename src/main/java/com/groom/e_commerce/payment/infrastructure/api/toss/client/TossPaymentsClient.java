@@ -2,7 +2,6 @@ package com.groom.e_commerce.payment.infrastructure.api.toss.client;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -20,6 +19,10 @@ import com.groom.e_commerce.payment.presentation.exception.TossApiException;
 
 import reactor.core.publisher.Mono;
 
+/**
+ * 토스페이먼츠 API 클라이언트
+ * - 응답을 block 하지 않고 Mono로 돌려준다. (PG 지연이 요청 스레드를 붙잡지 않도록)
+ */
 @Component
 public class TossPaymentsClient {
 
@@ -34,11 +37,15 @@ public class TossPaymentsClient {
 		this.secretKey = secretKey;
 	}
 
-	public TossPaymentResponse confirm(TossConfirmRequest request) {
+	/**
+	 * 결제 승인
+	 * - idempotencyKey: 재시도 시 같은 키를 보내야 PG가 중복 승인하지 않는다.
+	 */
+	public Mono<TossPaymentResponse> confirm(TossConfirmRequest request, String idempotencyKey) {
 		return tossWebClient.post()
 			.uri("/v1/payments/confirm")
 			.header(HttpHeaders.AUTHORIZATION, basicAuth(secretKey))
-			.header("Idempotency-Key", UUID.randomUUID().toString())
+			.header("Idempotency-Key", idempotencyKey)
 			.contentType(MediaType.APPLICATION_JSON)
 			.accept(MediaType.APPLICATION_JSON)
 			.bodyValue(request)
@@ -53,15 +60,14 @@ public class TossPaymentsClient {
 						err.code()     // ✅ tossErrorCode
 					)))
 			)
-			.bodyToMono(TossPaymentResponse.class)
-			.block();
+			.bodyToMono(TossPaymentResponse.class);
 	}
 
 	/**
 	 * 결제 조회 (PaymentKey 기준)
 	 * GET /v1/payments/{paymentKey}
 	 */
-	public TossPaymentResponse getPayment(String paymentKey) {
+	public Mono<TossPaymentResponse> getPayment(String paymentKey) {
 		return tossWebClient.get()
 			.uri("/v1/payments/{paymentKey}", paymentKey)
 			.header(HttpHeaders.AUTHORIZATION, basicAuth(secretKey))
@@ -77,15 +83,37 @@ public class TossPaymentsClient {
 						err.code()     // ✅ tossErrorCode
 					)))
 			)
-			.bodyToMono(TossPaymentResponse.class)
-			.block();
+			.bodyToMono(TossPaymentResponse.class);
+	}
+
+	/**
+	 * 결제 조회 (orderId 기준, paymentKey 가 아직 없는 READY 결제 대사용)
+	 * GET /v1/payments/orders/{orderId}
+	 */
+	public Mono<TossPaymentResponse> getPaymentByOrderId(String orderId) {
+		return tossWebClient.get()
+			.uri("/v1/payments/orders/{orderId}", orderId)
+			.header(HttpHeaders.AUTHORIZATION, basicAuth(secretKey))
+			.accept(MediaType.APPLICATION_JSON)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, clientResponse ->
+				clientResponse.bodyToMono(TossErrorResponse.class)
+					.defaultIfEmpty(new TossErrorResponse("TOSS_ERROR", "토스 결제 조회 실패"))
+					.flatMap(err -> Mono.error(new TossApiException(
+						clientResponse.statusCode(),
+						"TOSS_GET_FAILED",
+						err.message(),
+						err.code()
+					)))
+			)
+			.bodyToMono(TossPaymentResponse.class);
 	}
 
-	public TossCancelResponse cancel(String paymentKey, TossCancelRequest request) {
+	public Mono<TossCancelResponse> cancel(String paymentKey, TossCancelRequest request, String idempotencyKey) {
 		return tossWebClient.post()
 			.uri("/v1/payments/{paymentKey}/cancel", paymentKey)
 			.header(HttpHeaders.AUTHORIZATION, basicAuth(secretKey))
-			.header("Idempotency-Key", UUID.randomUUID().toString()) // ✅ 멱등키
+			.header("Idempotency-Key", idempotencyKey) // ✅ 멱등키
 			.contentType(MediaType.APPLICATION_JSON)
 			.accept(MediaType.APPLICATION_JSON)
 			.bodyValue(request)
@@ -100,8 +128,7 @@ public class TossPaymentsClient {
 						err.code()     // ✅ tossErrorCode
 					)))
 			)
-			.bodyToMono(TossCancelResponse.class)
-			.block();
+			.bodyToMono(TossCancelResponse.class);
 	}
 
 	private String basicAuth(String secretKey) {
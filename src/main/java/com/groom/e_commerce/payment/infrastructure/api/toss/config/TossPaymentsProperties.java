@@ -10,6 +10,20 @@ public record TossPaymentsProperties(
 	String successUrl,
 	String failUrl,
 	Integer connectTimeoutMs,
-	Integer readTimeoutMs
+	Integer readTimeoutMs,
+	Pool pool
 ) {
+
+	/**
+	 * 토스 API 커넥션 풀 설정 (미지정 항목은 TossWebClientConfig 기본값 사용)
+	 */
+	public record Pool(
+		Integer maxConnections,
+		Integer pendingAcquireMaxCount,
+		Integer pendingAcquireTimeoutMs,
+		Integer maxIdleTimeMs,
+		Integer maxLifeTimeMs,
+		Integer evictIntervalMs
+	) {
+	}
 }
@@ -1,6 +1,7 @@
 package com.groom.e_commerce.payment.infrastructure.api.toss.dto.response;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 public record TossPaymentResponse(
 	String paymentKey,
@@ -12,6 +13,27 @@ public record TossPaymentResponse(
 	Long totalAmount,
 	String status,
 	OffsetDateTime requestedAt,
-	OffsetDateTime approvedAt
+	OffsetDateTime approvedAt,
+	Long balanceAmount,
+	List<Cancel> cancels
 ) {
+
+	/**
+	 * 취소 이력 (부분 취소마다 1건)
+	 */
+	public record Cancel(
+		Long cancelAmount,
+		String cancelReason,
+		OffsetDateTime canceledAt
+	) {
+	}
+
+	public long totalCanceledAmount() {
+		if (cancels == null) {
+			return 0L;
+		}
+		return cancels.stream()
+			.mapToLong(cancel -> cancel.cancelAmount() == null ? 0L : cancel.cancelAmount())
+			.sum();
+	}
 }
@@ -0,0 +1,25 @@
+package com.groom.e_commerce.payment.infrastructure.api.toss.resilience;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import com.groom.e_commerce.payment.presentation.exception.TossApiException;
+
+/**
+ * PG 장애로 볼 실패만 골라낸다. (서킷 브레이커 실패 집계 / GET 재시도 대상)
+ * - 연결 실패, 타임아웃, 5xx, 429 → 장애
+ * - 그 외 4xx(잔액 부족, 이미 취소됨 등)는 정상 응답으로 취급
+ */
+public class TossFailurePredicate implements Predicate<Throwable> {
+
+	@Override
+	public boolean test(Throwable throwable) {
+		if (throwable instanceof TossApiException e) {
+			return e.getStatus().is5xxServerError() || e.getStatus() == HttpStatus.TOO_MANY_REQUESTS;
+		}
+		return throwable instanceof WebClientRequestException || throwable instanceof TimeoutException;
+	}
+}
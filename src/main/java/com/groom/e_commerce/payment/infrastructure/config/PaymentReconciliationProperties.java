@@ -0,0 +1,42 @@
+package com.groom.e_commerce.payment.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PG 대사 배치 설정
+ * - pageSize: 한 번에 읽고 한 트랜잭션으로 반영할 결제 수
+ * - concurrency: 동시에 진행할 PG 조회 수
+ * - ratePerSecond: 초당 최대 PG 조회 수 (1 이상)
+ * - readyGrace: 생성 후 이 시간이 지나도 READY 면 대사 대상
+ * - lookback: 대사 대상 조회 기간 (생성/변경 시각 기준)
+ */
+@ConfigurationProperties(prefix = "payment.reconciliation")
+public record PaymentReconciliationProperties(
+	boolean enabled,
+	Integer pageSize,
+	Integer concurrency,
+	Integer ratePerSecond,
+	Duration readyGrace,
+	Duration lookback
+) {
+
+	public PaymentReconciliationProperties {
+		pageSize = pageSize == null ? 500 : pageSize;
+		concurrency = concurrency == null ? 8 : concurrency;
+		ratePerSecond = ratePerSecond == null ? 50 : ratePerSecond;
+		readyGrace = readyGrace == null ? Duration.ofMinutes(30) : readyGrace;
+		lookback = lookback == null ? Duration.ofDays(1) : lookback;
+		// 잘못된 값은 대사 시각(새벽)이 아니라 기동 시점에 드러나도록 바인딩 단계에서 거절
+		requirePositive("page-size", pageSize);
+		requirePositive("concurrency", concurrency);
+		requirePositive("rate-per-second", ratePerSecond);
+	}
+
+	private static void requirePositive(String name, int value) {
+		if (value <= 0) {
+			throw new IllegalArgumentException("payment.reconciliation." + name + " 는 1 이상이어야 합니다: " + value);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.groom.e_commerce.payment.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PG 웹훅 처리 워커 설정
+ * - batchSize: 한 번에 점유해 한 트랜잭션으로 반영할 이벤트 수
+ * - concurrency: 동시에 진행할 PG 검증 조회 수
+ * - lease: 점유 유지 시간 (지나면 다른 워커가 다시 가져감)
+ * - maxAttempts: 이 횟수만큼 실패하면 FAILED
+ */
+@ConfigurationProperties(prefix = "payment.webhook")
+public record PaymentWebhookProperties(
+	boolean enabled,
+	Integer batchSize,
+	Integer concurrency,
+	Duration lease,
+	Integer maxAttempts
+) {
+
+	public PaymentWebhookProperties {
+		batchSize = batchSize == null ? 100 : batchSize;
+		concurrency = concurrency == null ? 8 : concurrency;
+		lease = lease == null ? Duration.ofSeconds(60) : lease;
+		maxAttempts = maxAttempts == null ? 10 : maxAttempts;
+	}
+}
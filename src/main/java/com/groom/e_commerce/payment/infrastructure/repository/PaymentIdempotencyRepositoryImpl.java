@@ -0,0 +1,35 @@
+package com.groom.e_commerce.payment.infrastructure.repository;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.payment.domain.entity.PaymentIdempotency;
+import com.groom.e_commerce.payment.domain.repository.PaymentIdempotencyRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class PaymentIdempotencyRepositoryImpl implements PaymentIdempotencyRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public PaymentIdempotency save(PaymentIdempotency idempotency) {
+		entityManager.persist(idempotency);
+		return idempotency;
+	}
+
+	@Override
+	public Optional<PaymentIdempotency> findByIdempotencyKey(String idempotencyKey) {
+		return entityManager.createQuery(
+				"SELECT i FROM PaymentIdempotency i WHERE i.idempotencyKey = :idempotencyKey",
+				PaymentIdempotency.class
+			)
+			.setParameter("idempotencyKey", idempotencyKey)
+			.getResultStream()
+			.findFirst();
+	}
+}
@@ -1,11 +1,15 @@
 package com.groom.e_commerce.payment.infrastructure.repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
 import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentReconcileTarget;
 import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
 
 import jakarta.persistence.EntityManager;
@@ -83,4 +87,31 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 			.getResultStream()
 			.findFirst();
 	}
+
+	@Override
+	public List<PaymentReconcileTarget> findReconcileTargets(
+		OffsetDateTime createdFrom,
+		OffsetDateTime readyBefore,
+		OffsetDateTime changedAfter,
+		UUID afterPaymentId,
+		int limit
+	) {
+		return entityManager.createQuery(
+				"SELECT new com.groom.e_commerce.payment.domain.repository.PaymentReconcileTarget("
+					+ "p.paymentId, p.orderId, p.paymentKey) "
+					+ "FROM Payment p "
+					+ "WHERE p.paymentId > :afterPaymentId "
+					+ "AND ((p.status = :ready AND p.createdAt >= :createdFrom AND p.createdAt < :readyBefore) "
+					+ "OR (p.status <> :ready AND p.updatedAt >= :changedAfter)) "
+					+ "ORDER BY p.paymentId",
+				PaymentReconcileTarget.class
+			)
+			.setParameter("afterPaymentId", afterPaymentId)
+			.setParameter("ready", PaymentStatus.READY)
+			.setParameter("createdFrom", createdFrom)
+			.setParameter("readyBefore", readyBefore)
+			.setParameter("changedAfter", changedAfter)
+			.setMaxResults(limit)
+			.getResultList();
+	}
 }
@@ -0,0 +1,61 @@
+package com.groom.e_commerce.payment.infrastructure.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.payment.domain.entity.PaymentWebhookEvent;
+import com.groom.e_commerce.payment.domain.repository.PaymentWebhookEventRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Repository
+public class PaymentWebhookEventRepositoryImpl implements PaymentWebhookEventRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public PaymentWebhookEvent save(PaymentWebhookEvent event) {
+		entityManager.persist(event);
+		return event;
+	}
+
+	@Override
+	public Optional<PaymentWebhookEvent> findById(UUID webhookEventId) {
+		return Optional.ofNullable(entityManager.find(PaymentWebhookEvent.class, webhookEventId));
+	}
+
+	@Override
+	public List<PaymentWebhookEvent> findAllById(List<UUID> webhookEventIds) {
+		if (webhookEventIds.isEmpty()) {
+			return List.of();
+		}
+		return entityManager.createQuery(
+				"SELECT e FROM PaymentWebhookEvent e WHERE e.webhookEventId IN :ids",
+				PaymentWebhookEvent.class
+			)
+			.setParameter("ids", webhookEventIds)
+			.getResultList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<PaymentWebhookEvent> findAvailableForUpdate(OffsetDateTime now, int limit) {
+		return entityManager.createNativeQuery(
+				"SELECT * FROM p_payment_webhook_event "
+					+ "WHERE status IN ('PENDING', 'PROCESSING') AND available_at <= :now "
+					+ "ORDER BY webhook_event_id "
+					+ "LIMIT :limit "
+					+ "FOR UPDATE SKIP LOCKED",
+				PaymentWebhookEvent.class
+			)
+			.setParameter("now", now)
+			.setParameter("limit", limit)
+			.getResultList();
+	}
+}
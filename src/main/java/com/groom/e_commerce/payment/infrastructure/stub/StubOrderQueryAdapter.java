@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import com.groom.e_commerce.payment.application.port.out.OrderQueryPort;
 
 @Component
+@Profile("stub") // 주문 데이터 없이 결제 흐름만 확인할 때 사용
 public class StubOrderQueryAdapter implements OrderQueryPort {
 
 	@Override
@@ -20,7 +20,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+/**
+ * 승인/조회/취소는 Mono를 반환한다.
+ * MVC가 비동기 요청으로 처리하므로 PG 응답을 기다리는 동안 Tomcat 워커를 반납한다.
+ */
 @RestController
 @RequestMapping("/api/v1/payments")
 @Tag(name = "결제", description = "토스페이먼츠 결제 준비/승인/조회/취소 API")
@@ -70,8 +75,8 @@ public class PaymentControllerV1 {
 		@ApiResponse(responseCode = "409", description = "중복 승인(같은 orderId 재시도 등)")
 	})
 	@PostMapping("/confirm")
-	public ResponseEntity<ResPaymentV1> confirm(@Valid @RequestBody ReqConfirmPaymentV1 request) {
-		return ResponseEntity.ok(confirmPaymentUseCase.confirm(request));
+	public Mono<ResponseEntity<ResPaymentV1>> confirm(@Valid @RequestBody ReqConfirmPaymentV1 request) {
+		return confirmPaymentUseCase.confirm(request).map(ResponseEntity::ok);
 	}
 
 	// 결제 조회(토스 조회 or 내부 조회)
@@ -85,11 +90,11 @@ public class PaymentControllerV1 {
 		@ApiResponse(responseCode = "404", description = "결제 정보 없음")
 	})
 	@GetMapping("/{paymentKey}")
-	public ResponseEntity<ResPaymentV1> getByPaymentKey(
+	public Mono<ResponseEntity<ResPaymentV1>> getByPaymentKey(
 		@Parameter(description = "토스 결제 키(paymentKey)", example = "tviva2026...")
 		@PathVariable String paymentKey
 	) {
-		return ResponseEntity.ok(getPaymentUseCase.getByPaymentKey(paymentKey));
+		return getPaymentUseCase.getByPaymentKey(paymentKey).map(ResponseEntity::ok);
 	}
 
 	// 주문ID로 결제 조회(내부)
@@ -113,7 +118,8 @@ public class PaymentControllerV1 {
 	// 결제 취소(토스 cancel)
 	@Operation(
 		summary = "결제 취소(cancel)",
-		description = "paymentKey 기준으로 토스 결제 취소를 수행합니다."
+		description = "paymentKey 기준으로 토스 결제 취소를 수행합니다. "
+			+ "같은 취소 요청을 재시도할 때는 같은 Idempotency-Key 를 보내야 중복 환불되지 않습니다."
 	)
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "취소 성공",
@@ -122,11 +128,13 @@ public class PaymentControllerV1 {
 		@ApiResponse(responseCode = "404", description = "결제 정보 없음")
 	})
 	@PostMapping("/{paymentKey}/cancel")
-	public ResponseEntity<ResCancelResultV1> cancel(
+	public Mono<ResponseEntity<ResCancelResultV1>> cancel(
 		@Parameter(description = "취소할 결제의 paymentKey", example = "tviva2026...")
 		@PathVariable String paymentKey,
+		@Parameter(description = "취소 요청 멱등키(최대 64자). 재시도 시 같은 값", example = "3f1c2a9e-...")
+		@RequestHeader("Idempotency-Key") String idempotencyKey,
 		@Valid @RequestBody ReqCancelPaymentV1 request
 	) {
-		return ResponseEntity.ok(cancelPaymentUseCase.cancel(paymentKey, request));
+		return cancelPaymentUseCase.cancel(paymentKey, request, idempotencyKey).map(ResponseEntity::ok);
 	}
 }
@@ -0,0 +1,41 @@
+package com.groom.e_commerce.payment.presentation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.groom.e_commerce.payment.application.port.in.ReceivePaymentWebhookUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/payments")
+@Tag(name = "결제-웹훅", description = "토스 결제 상태 변경 웹훅 수신 API")
+public class PaymentWebhookController {
+
+	private final ReceivePaymentWebhookUseCase receivePaymentWebhookUseCase;
+
+	public PaymentWebhookController(ReceivePaymentWebhookUseCase receivePaymentWebhookUseCase) {
+		this.receivePaymentWebhookUseCase = receivePaymentWebhookUseCase;
+	}
+
+	@Operation(
+		summary = "결제 상태 변경 웹훅",
+		description = "토스 PAYMENT_STATUS_CHANGED 웹훅을 수신함에 저장하고 바로 200을 반환합니다. "
+			+ "결제 반영은 PG 재조회로 검증한 뒤 비동기로 처리됩니다."
+	)
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "수신 완료"),
+		@ApiResponse(responseCode = "400", description = "paymentKey 누락/본문 형식 오류")
+	})
+	@PostMapping("/webhook")
+	public ResponseEntity<Void> receive(@RequestBody String payload) {
+		receivePaymentWebhookUseCase.receive(payload);
+		return ResponseEntity.ok().build();
+	}
+}
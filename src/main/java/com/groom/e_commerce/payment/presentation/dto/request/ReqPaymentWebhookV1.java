@@ -0,0 +1,20 @@
+package com.groom.e_commerce.payment.presentation.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 토스 웹훅 본문 (PAYMENT_STATUS_CHANGED)
+ * - data 는 결제 객체이며, 반영에 필요한 식별자만 읽는다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReqPaymentWebhookV1(
+	String eventType,
+	Data data
+) {
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public record Data(
+		String paymentKey,
+		String orderId,
+		String status
+	) {}
+}
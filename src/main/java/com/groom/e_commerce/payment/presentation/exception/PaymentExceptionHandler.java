@@ -0,0 +1,37 @@
+package com.groom.e_commerce.payment.presentation.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.groom.e_commerce.payment.presentation.controller.PaymentControllerV1;
+import com.groom.e_commerce.payment.presentation.dto.response.ResErrorV1;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 API 예외 응답
+ * - GlobalExceptionHandler 의 Exception 처리보다 먼저 적용되도록 우선순위를 높인다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackageClasses = PaymentControllerV1.class)
+public class PaymentExceptionHandler {
+
+	@ExceptionHandler(PaymentException.class)
+	public ResponseEntity<ResErrorV1> handlePaymentException(PaymentException exception) {
+		log.warn("PaymentException: {} - {}", exception.getCode(), exception.getMessage());
+		return ResponseEntity.status(exception.getStatus())
+			.body(new ResErrorV1(exception.getCode(), exception.getMessage()));
+	}
+
+	@ExceptionHandler(TossApiException.class)
+	public ResponseEntity<ResErrorV1> handleTossApiException(TossApiException exception) {
+		log.warn("TossApiException: {} - {} ({})",
+			exception.getCode(), exception.getMessage(), exception.getTossErrorCode());
+		return ResponseEntity.status(exception.getStatus())
+			.body(new ResErrorV1(exception.getCode(), exception.getMessage(), exception.getTossErrorCode()));
+	}
+}
@@ -0,0 +1,37 @@
+package com.groom.e_commerce.product.application.event;
+
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventHandler;
+import com.groom.e_commerce.order.domain.event.OrderCancelledEvent;
+import com.groom.e_commerce.product.application.service.StockServiceV1;
+import com.groom.e_commerce.product.application.service.StockServiceV1.StockItem;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 취소 → 재고 복구 (주문당 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCancelledStockHandler implements OutboxEventHandler<OrderCancelledEvent> {
+
+	private final StockServiceV1 stockService;
+
+	@Override
+	public String eventType() {
+		return OrderCancelledEvent.TYPE;
+	}
+
+	@Override
+	public Class<OrderCancelledEvent> payloadType() {
+		return OrderCancelledEvent.class;
+	}
+
+	@Override
+	public void handle(OrderCancelledEvent event) {
+		stockService.releaseForOrder(event.orderId(), event.items().stream()
+			.map(item -> new StockItem(item.productId(), item.variantId(), item.quantity()))
+			.toList());
+	}
+}
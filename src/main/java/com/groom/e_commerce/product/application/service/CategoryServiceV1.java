@@ -3,12 +3,14 @@ package com.groom.e_commerce.product.application.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.event.CategoryMovedEvent;
 import com.groom.e_commerce.product.domain.repository.CategoryRepository;
 import com.groom.e_commerce.product.presentation.dto.response.ResCategoryDtoV1;
 
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryServiceV1 {
 
 	private final CategoryRepository categoryRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 전체 카테고리 목록 조회 (계층 구조)
@@ -62,6 +65,52 @@ public class CategoryServiceV1 {
 		return ResCategoryDtoV1.fromWithChildren(category);
 	}
 
+	/**
+	 * 카테고리 생성 - parentId 가 없으면 최상위
+	 */
+	@Transactional
+	public ResCategoryDtoV1 createCategory(UUID parentId, String name, Integer sortOrder) {
+		Category parent = parentId != null ? findActiveCategoryById(parentId) : null;
+		// 부모 경로가 아직 없으면(백필 전) 자식 경로를 만들 수 없다. (백필은 경로가 NULL 인 행만 채운다)
+		if (parent != null && !parent.hasPath()) {
+			throw new CustomException(ErrorCode.VALIDATION_ERROR, "상위 카테고리 경로가 아직 준비되지 않아 생성할 수 없습니다.");
+		}
+		Category category = Category.builder()
+			.parent(parent)
+			.name(name)
+			.depth(parent != null ? parent.getDepth() + 1 : 1)
+			.sortOrder(sortOrder != null ? sortOrder : 0)
+			.build();
+
+		categoryRepository.save(category);
+		category.assignPath();
+		return ResCategoryDtoV1.from(category);
+	}
+
+	/**
+	 * 카테고리 이동 - 하위 카테고리 전체의 경로/깊이를 UPDATE 한 번으로 함께 옮긴다.
+	 * 커밋 후 검색 색인이 옮겨진 하위 트리 상품의 카테고리 경로를 다시 만든다.
+	 */
+	@Transactional
+	public void moveCategory(UUID categoryId, UUID newParentId) {
+		Category category = findActiveCategoryById(categoryId);
+		Category newParent = newParentId != null ? findActiveCategoryById(newParentId) : null;
+		// 경로가 아직 없으면(백필 전) 순환 여부를 판단할 수 없으므로 이동하지 않는다.
+		if (!category.hasPath() || (newParent != null && !newParent.hasPath())) {
+			throw new CustomException(ErrorCode.VALIDATION_ERROR, "카테고리 경로가 아직 준비되지 않아 이동할 수 없습니다.");
+		}
+		if (newParent != null && category.contains(newParent)) {
+			throw new CustomException(ErrorCode.VALIDATION_ERROR, "자신이나 하위 카테고리 밑으로는 이동할 수 없습니다.");
+		}
+
+		String oldPath = category.getPath();
+		int oldDepth = category.getDepth();
+		category.moveTo(newParent);
+		categoryRepository.moveDescendants(
+			oldPath, oldPath + "%", category.getPath(), category.getDepth() - oldDepth);
+		applicationEventPublisher.publishEvent(new CategoryMovedEvent(category.getId(), category.getPath()));
+	}
+
 	/**
 	 * 카테고리 엔티티 조회 (내부용)
 	 */
@@ -0,0 +1,84 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.global.presentation.dto.CursorPage;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductSearchServiceV1 {
+
+	private static final int MAX_KEYWORD_LENGTH = 100;
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final ProductRepository productRepository;
+	private final ProductQueryRepository productQueryRepository;
+
+	/**
+	 * 판매중 상품 키워드 검색 (관련도순)
+	 * - 정렬은 관련도로 고정되므로 요청의 sort 는 무시한다.
+	 */
+	public Page<ResProductSearchDtoV1> search(String keyword, Pageable pageable) {
+		String normalized = normalize(keyword);
+		Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+		return productRepository.searchByKeyword(normalized, toLikePattern(normalized), unsorted)
+			.map(ResProductSearchDtoV1::from);
+	}
+
+	/**
+	 * 판매중 상품 목록 (커서 페이징, 최신 등록순)
+	 * - cursor 가 없으면 첫 페이지, 응답의 nextCursor 로 다음 페이지를 이어서 조회한다.
+	 */
+	public CursorPage<ResProductSearchDtoV1> browse(
+		String keyword,
+		UUID categoryId,
+		BigDecimal minPrice,
+		BigDecimal maxPrice,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		String normalized = StringUtils.hasText(keyword) ? normalize(keyword) : null;
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+		return productQueryRepository.searchProductsByCursor(
+				normalized, categoryId, minPrice, maxPrice, ProductStatus.ON_SALE, cursor, pageSize, withTotal)
+			.map(ResProductSearchDtoV1::from);
+	}
+
+	static String normalize(String keyword) {
+		if (!StringUtils.hasText(keyword)) {
+			throw new CustomException(ErrorCode.VALIDATION_ERROR, "검색어를 입력해주세요.");
+		}
+		String trimmed = keyword.strip().replaceAll("\\s+", " ");
+		return trimmed.length() > MAX_KEYWORD_LENGTH ? trimmed.substring(0, MAX_KEYWORD_LENGTH) : trimmed;
+	}
+
+	// 부분 일치용 LIKE 패턴 - 키워드의 %, _ 는 문자 그대로 찾도록 이스케이프 (PostgreSQL 기본 이스케이프 문자 \)
+	static String toLikePattern(String keyword) {
+		String escaped = keyword.toLowerCase(Locale.ROOT)
+			.replace("\\", "\\\\")
+			.replace("%", "\\%")
+			.replace("_", "\\_");
+		return "%" + escaped + "%";
+	}
+}
@@ -0,0 +1,136 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.domain.event.ProductChangedEvent;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.repository.ProductVariantRepository;
+import com.groom.e_commerce.product.domain.repository.StockReleaseRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 선점/복구
+ * - 엔티티를 읽고 고치는 대신 조건부 UPDATE 한 번으로 차감하므로, 동시 주문에도 초과 판매가 발생하지 않는다.
+ * - 선점은 호출한 트랜잭션(주문 생성)과 함께 커밋/롤백된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockServiceV1 {
+
+	private final ProductRepository productRepository;
+	private final ProductVariantRepository productVariantRepository;
+	private final StockReleaseRepository stockReleaseRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	/**
+	 * 재고 선점 (주문 생성 시)
+	 * 하나라도 부족하면 예외 → 트랜잭션 롤백으로 앞서 차감한 재고도 함께 원복된다.
+	 */
+	@Transactional
+	public void reserve(List<StockItem> items) {
+		for (StockItem item : normalize(items)) {
+			int updated = item.variantId() != null
+				? productVariantRepository.decreaseStockIfAvailable(item.variantId(), item.quantity())
+				: decreaseProductStock(item);
+
+			if (updated == 0) {
+				throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+			}
+		}
+	}
+
+	/**
+	 * 주문 취소 재고 복구 - 주문당 한 번만 (Outbox 재전달, 중복 취소 이벤트 대비)
+	 */
+	@Transactional
+	public void releaseForOrder(UUID orderId, List<StockItem> items) {
+		if (stockReleaseRepository.markReleased(orderId) == 0) {
+			log.info("이미 재고를 복구한 주문 - orderId={}", orderId);
+			return;
+		}
+		release(items);
+	}
+
+	/**
+	 * 재고 복구 (주문 취소 시)
+	 */
+	@Transactional
+	public void release(List<StockItem> items) {
+		for (StockItem item : normalize(items)) {
+			int updated = item.variantId() != null
+				? productVariantRepository.increaseStock(item.variantId(), item.quantity())
+				: increaseProductStock(item);
+
+			if (updated == 0) {
+				log.warn("재고 복구 대상 없음 - productId={}, variantId={}, quantity={}",
+					item.productId(), item.variantId(), item.quantity());
+			}
+		}
+	}
+
+	// 옵션 없는 상품은 재고에 따라 상태(판매중/품절)가 바뀐다. 상태가 실제로 바뀐 경우에만 검색 색인에 알린다.
+	// (벌크 UPDATE 라 엔티티 콜백이 없고, 재고 수량은 색인하지 않으므로 매 주문마다 알릴 필요가 없다)
+	private int decreaseProductStock(StockItem item) {
+		int updated = productRepository.decreaseStockIfAvailable(item.productId(), item.quantity());
+		if (updated > 0) {
+			return updated;
+		}
+		updated = productRepository.sellOutIfExactlyAvailable(item.productId(), item.quantity());
+		if (updated > 0) {
+			applicationEventPublisher.publishEvent(new ProductChangedEvent(item.productId()));
+		}
+		return updated;
+	}
+
+	private int increaseProductStock(StockItem item) {
+		int updated = productRepository.increaseStock(item.productId(), item.quantity());
+		if (updated > 0) {
+			return updated;
+		}
+		updated = productRepository.restockSoldOut(item.productId(), item.quantity());
+		if (updated > 0) {
+			applicationEventPublisher.publishEvent(new ProductChangedEvent(item.productId()));
+		}
+		return updated;
+	}
+
+	/**
+	 * 같은 SKU는 합산하고 SKU ID 순으로 정렬한다.
+	 * 여러 상품을 담은 주문끼리도 항상 같은 순서로 row 락을 잡으므로 교착 상태가 생기지 않는다.
+	 */
+	private List<StockItem> normalize(List<StockItem> items) {
+		Map<UUID, StockItem> merged = new TreeMap<>();
+		for (StockItem item : items) {
+			if (item.quantity() <= 0) {
+				throw new CustomException(ErrorCode.VALIDATION_ERROR);
+			}
+			merged.merge(item.stockKey(), item, (a, b) ->
+				new StockItem(a.productId(), a.variantId(), a.quantity() + b.quantity()));
+		}
+		return List.copyOf(merged.values());
+	}
+
+	/**
+	 * 재고 단위
+	 * - variantId가 있으면 SKU(ProductVariant) 재고, 없으면 옵션 없는 상품(Product) 재고를 사용한다.
+	 */
+	public record StockItem(UUID productId, UUID variantId, int quantity) {
+
+		private UUID stockKey() {
+			return variantId != null ? variantId : productId;
+		}
+	}
+}
@@ -8,11 +8,11 @@ import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.groom.e_commerce.global.domain.entity.UuidV7;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -29,8 +29,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category {
 
+	private static final String PATH_SEPARATOR = "/";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "category_id")
 	private UUID id;
 
@@ -47,6 +49,10 @@ public class Category {
 	@Column(name = "depth", nullable = false)
 	private Integer depth;
 
+	// 루트부터 자신까지의 id 경로 ("/루트id/.../자신id/") - 하위 트리 전체를 경로 접두어 하나로 찾는다.
+	@Column(name = "path", length = 1000)
+	private String path;
+
 	@Column(name = "sort_order", nullable = false)
 	private Integer sortOrder;
 
@@ -90,4 +96,34 @@ public class Category {
 	public boolean isRoot() {
 		return this.parent == null;
 	}
+
+	// 저장으로 id 가 발급된 뒤 호출 - 부모 경로 뒤에 자신의 id 를 붙인다.
+	public void assignPath() {
+		this.path = pathUnder(this.parent);
+	}
+
+	// 다른 부모 밑으로 이동 (하위 카테고리들의 경로/깊이는 CategoryRepository.moveDescendants 로 일괄 갱신)
+	public void moveTo(Category newParent) {
+		this.parent = newParent;
+		this.depth = newParent != null ? newParent.getDepth() + 1 : 1;
+		this.path = pathUnder(newParent);
+	}
+
+	// 경로가 채워졌는지 (schema-postgresql.sql 백필 전이면 false)
+	public boolean hasPath() {
+		return this.path != null;
+	}
+
+	// other 가 자신이거나 자신의 하위 카테고리인지 (경로가 없으면 판단할 수 없으므로 호출 전에 hasPath 확인)
+	public boolean contains(Category other) {
+		return this.path != null && other.getPath() != null && other.getPath().startsWith(this.path);
+	}
+
+	// 부모 경로가 없으면 "null<id>/" 같은 잘못된 경로가 저장되므로 만들지 않는다. (서비스에서 먼저 거절)
+	private String pathUnder(Category parent) {
+		if (parent != null && !parent.hasPath()) {
+			throw new IllegalStateException("상위 카테고리 경로가 없습니다. categoryId=" + parent.getId());
+		}
+		return (parent != null ? parent.getPath() : PATH_SEPARATOR) + this.id + PATH_SEPARATOR;
+	}
 }
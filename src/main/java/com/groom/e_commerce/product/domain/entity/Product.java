@@ -9,17 +9,19 @@ import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.event.ProductChangePublisher;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -30,13 +32,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_product")
+@Table(
+	name = "p_product",
+	indexes = {
+		// 목록 정렬(created_at desc, product_id desc) 키셋 페이징용
+		@Index(name = "idx_product_created_at", columnList = "created_at, product_id"),
+		@Index(name = "idx_product_category_created_at", columnList = "category_id, created_at, product_id"),
+		@Index(name = "idx_product_owner_created_at", columnList = "owner_id, created_at, product_id")
+	}
+)
+@EntityListeners(ProductChangePublisher.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "product_id")
 	private UUID id;
 
@@ -0,0 +1,30 @@
+package com.groom.e_commerce.product.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 취소 재고 복구 이력
+ * - 주문당 한 행. 취소 이벤트가 다시 전달돼도 이미 복구한 주문이면 재고를 또 늘리지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_stock_release")
+public class StockRelease {
+
+	@Id
+	@Column(name = "order_id")
+	private UUID orderId;
+
+	@Column(name = "released_at", nullable = false)
+	private LocalDateTime releasedAt;
+}
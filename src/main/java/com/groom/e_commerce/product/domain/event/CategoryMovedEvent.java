@@ -0,0 +1,10 @@
+package com.groom.e_commerce.product.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 카테고리 이동 알림 (프로세스 내 Spring 이벤트) - 상품 검색 색인의 카테고리 경로 갱신 용도
+ * - path: 이동 후 경로 (이 접두어로 시작하는 카테고리의 상품이 영향을 받는다)
+ */
+public record CategoryMovedEvent(UUID categoryId, String path) {
+}
@@ -0,0 +1,29 @@
+package com.groom.e_commerce.product.domain.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.entity.Product;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Product 엔티티 변경 → ProductChangedEvent
+ * - 벌크 UPDATE(재고 차감 등)는 엔티티 콜백을 거치지 않으므로 호출한 쪽에서 직접 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangePublisher {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void changed(Product product) {
+		applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+	}
+}
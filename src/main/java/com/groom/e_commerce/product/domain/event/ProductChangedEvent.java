@@ -0,0 +1,9 @@
+package com.groom.e_commerce.product.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 상품 변경 알림 (프로세스 내 Spring 이벤트) - 상품 검색 색인 갱신 용도
+ */
+public record ProductChangedEvent(UUID productId) {
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,6 +30,18 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 		+ "WHERE c.parent IS NULL AND c.isActive = true ORDER BY c.sortOrder")
 	List<Category> findRootCategoriesWithChildren();
 
+	// 카테고리 이동 시 하위 카테고리 경로 접두어/깊이 일괄 변경 (oldPathPattern = 이전 경로 + '%')
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Category c SET c.path = CONCAT(:newPath, SUBSTRING(c.path, LENGTH(:oldPath) + 1)), "
+		+ "c.depth = c.depth + :depthDelta "
+		+ "WHERE c.path LIKE :oldPathPattern")
+	int moveDescendants(
+		@Param("oldPath") String oldPath,
+		@Param("oldPathPattern") String oldPathPattern,
+		@Param("newPath") String newPath,
+		@Param("depthDelta") int depthDelta
+	);
+
 	// 카테고리 삭제 전 자식이 있는지 검사
 	boolean existsByParentId(UUID parentId);
 
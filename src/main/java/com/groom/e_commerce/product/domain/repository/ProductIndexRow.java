@@ -0,0 +1,21 @@
+package com.groom.e_commerce.product.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 검색 색인용 상품 컬럼 프로젝션
+ */
+public record ProductIndexRow(
+	UUID productId,
+	UUID categoryId,
+	String title,
+	String description,
+	BigDecimal price,
+	ProductStatus status,
+	LocalDateTime updatedAt
+) {
+}
@@ -1,13 +1,18 @@
 package com.groom.e_commerce.product.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
@@ -15,6 +20,8 @@ import org.springframework.stereotype.Repository;
 import com.groom.e_commerce.product.domain.entity.Product;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
 
@@ -54,13 +61,75 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 	@Query("SELECT p FROM Product p WHERE p.deletedAt IS NULL")
 	Page<Product> findAllNotDeleted(Pageable pageable);
 
-	// 상품 검색
-	@Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% AND p.status = 'ON_SALE' AND p.deletedAt IS NULL")
-	Page<Product> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
+	// 상품 검색 - 단어 일치(search_vector, GIN) 또는 제목 부분 일치(트라이그램, GIN), 관련도순
+	// pattern 은 LIKE 특수문자를 이스케이프한 소문자 키워드 (ProductSearchServiceV1.toLikePattern)
+	@Query(value = "SELECT p.* FROM p_product p, plainto_tsquery('simple', :keyword) q "
+		+ "WHERE p.status = 'ON_SALE' AND p.deleted_at IS NULL "
+		+ "AND (p.search_vector @@ q OR lower(p.title) LIKE :pattern) "
+		+ "ORDER BY ts_rank_cd(p.search_vector, q) DESC, similarity(lower(p.title), lower(:keyword)) DESC, "
+		+ "p.created_at DESC",
+		countQuery = "SELECT count(*) FROM p_product p, plainto_tsquery('simple', :keyword) q "
+			+ "WHERE p.status = 'ON_SALE' AND p.deleted_at IS NULL "
+			+ "AND (p.search_vector @@ q OR lower(p.title) LIKE :pattern)",
+		nativeQuery = true)
+	Page<Product> searchByKeyword(
+		@Param("keyword") String keyword,
+		@Param("pattern") String pattern,
+		Pageable pageable
+	);
+
+	// 검색 색인 전체 재구성 - 커서로 끊어 읽는다. (호출하는 쪽에서 트랜잭션 필요, 등록순 = 색인 문서 순서)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.groom.e_commerce.product.domain.repository.ProductIndexRow("
+		+ "p.id, p.category.id, p.title, p.description, p.price, p.status, p.updatedAt) "
+		+ "FROM Product p WHERE p.deletedAt IS NULL ORDER BY p.createdAt, p.id")
+	Stream<ProductIndexRow> streamIndexRows();
+
+	// 검색 색인 변경분 갱신 (삭제된 상품은 결과에 없음)
+	@Query("SELECT new com.groom.e_commerce.product.domain.repository.ProductIndexRow("
+		+ "p.id, p.category.id, p.title, p.description, p.price, p.status, p.updatedAt) "
+		+ "FROM Product p WHERE p.id IN :ids AND p.deletedAt IS NULL")
+	List<ProductIndexRow> findIndexRowsByIds(@Param("ids") Collection<UUID> ids);
+
+	// 카테고리 이동 후 검색 색인 갱신 대상 - 경로 접두어(path LIKE '/../id/%')로 하위 트리 전체의 상품을 찾는다.
+	@Query("SELECT p.id FROM Product p WHERE p.category.path LIKE :pattern AND p.deletedAt IS NULL")
+	List<UUID> findIdsByCategoryPathLike(@Param("pattern") String pattern);
+
+	// 전체 상품 수 추정치 (플래너 통계, ANALYZE 전이면 0) - 조건 없는 목록의 건수 표시용
+	@Query(value = "SELECT CAST(GREATEST(c.reltuples, 0) AS bigint) FROM pg_class c "
+		+ "WHERE c.oid = to_regclass('p_product')", nativeQuery = true)
+	long estimateCount();
 
 	// 장바구니/주문 시 여러 상품 정보를 한 번에 조회할 때 사용
 	List<Product> findByIdIn(List<UUID> ids);
 
 	Optional<String> findTitleById(UUID id);
 
+	// 옵션 없는 상품 재고 조건부 차감 (차감 후에도 재고가 남는 판매중 상품만) - 갱신된 row 수 반환
+	// 상태가 바뀌지 않는 대부분의 주문은 이 UPDATE 한 번으로 끝난다.
+	@Modifying
+	@Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity "
+		+ "WHERE p.id = :id AND p.status = 'ON_SALE' AND p.deletedAt IS NULL AND p.stockQuantity > :quantity")
+	int decreaseStockIfAvailable(@Param("id") UUID id, @Param("quantity") int quantity);
+
+	// 남은 재고를 정확히 다 사는 경우 - 재고 0 + 품절 처리 (상태가 바뀌므로 호출하는 쪽에서 검색 색인에 알린다)
+	@Modifying
+	@Query("UPDATE Product p SET p.stockQuantity = 0, "
+		+ "p.status = com.groom.e_commerce.product.domain.enums.ProductStatus.SOLD_OUT "
+		+ "WHERE p.id = :id AND p.status = 'ON_SALE' AND p.deletedAt IS NULL AND p.stockQuantity = :quantity")
+	int sellOutIfExactlyAvailable(@Param("id") UUID id, @Param("quantity") int quantity);
+
+	// 옵션 없는 상품 재고 복구 (품절이 아닌 상품 - 상태는 그대로)
+	@Modifying
+	@Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity "
+		+ "WHERE p.id = :id AND p.status <> 'SOLD_OUT'")
+	int increaseStock(@Param("id") UUID id, @Param("quantity") int quantity);
+
+	// 품절 상품 재고 복구 - 판매중으로 되돌린다.
+	@Modifying
+	@Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, "
+		+ "p.status = com.groom.e_commerce.product.domain.enums.ProductStatus.ON_SALE "
+		+ "WHERE p.id = :id AND p.status = 'SOLD_OUT'")
+	int restockSoldOut(@Param("id") UUID id, @Param("quantity") int quantity);
+
 }
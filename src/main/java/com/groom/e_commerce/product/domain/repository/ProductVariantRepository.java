@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -45,4 +46,24 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
 
 	// [설계 의도] 장바구니에 담긴 여러 SKU를 한 번에 조회
 	List<ProductVariant> findByIdIn(List<UUID> ids);
+
+	// 재고 조건부 차감 (재고가 충분한 판매중 SKU만 차감, 0이 되면 품절 처리) - 갱신된 row 수 반환
+	// 주문 검증 이후 상품이 정지/숨김/삭제됐을 수 있으므로 상위 상품 상태도 같은 UPDATE 에서 확인한다.
+	// (SKU 재고로 판매하는 상품이라 상위 상품 품절 표시는 막지 않는다 - OrderService.validateOrderable 과 같은 기준)
+	@Modifying
+	@Query("UPDATE ProductVariant v SET v.stockQuantity = v.stockQuantity - :quantity, "
+		+ "v.status = CASE WHEN v.stockQuantity = :quantity "
+		+ "THEN com.groom.e_commerce.product.domain.enums.VariantStatus.SOLD_OUT ELSE v.status END "
+		+ "WHERE v.id = :id AND v.status = 'ON_SALE' AND v.stockQuantity >= :quantity "
+		+ "AND EXISTS (SELECT 1 FROM Product p WHERE p.id = v.product.id "
+		+ "AND p.status IN ('ON_SALE', 'SOLD_OUT') AND p.deletedAt IS NULL)")
+	int decreaseStockIfAvailable(@Param("id") UUID id, @Param("quantity") int quantity);
+
+	// 재고 복구 (품절 상태였다면 판매중으로 되돌림)
+	@Modifying
+	@Query("UPDATE ProductVariant v SET v.stockQuantity = v.stockQuantity + :quantity, "
+		+ "v.status = CASE WHEN v.status = 'SOLD_OUT' "
+		+ "THEN com.groom.e_commerce.product.domain.enums.VariantStatus.ON_SALE ELSE v.status END "
+		+ "WHERE v.id = :id")
+	int increaseStock(@Param("id") UUID id, @Param("quantity") int quantity);
 }
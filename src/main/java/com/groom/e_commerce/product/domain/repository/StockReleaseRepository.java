@@ -0,0 +1,21 @@
+package com.groom.e_commerce.product.domain.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.product.domain.entity.StockRelease;
+
+@Repository
+public interface StockReleaseRepository extends JpaRepository<StockRelease, UUID> {
+
+	// 복구 이력 선점 - 처음이면 1, 이미 복구한 주문이면 0 (동시에 들어와도 한 건만 1)
+	@Modifying
+	@Query(value = "INSERT INTO p_stock_release (order_id, released_at) VALUES (:orderId, now()) "
+		+ "ON CONFLICT (order_id) DO NOTHING", nativeQuery = true)
+	int markReleased(@Param("orderId") UUID orderId);
+}
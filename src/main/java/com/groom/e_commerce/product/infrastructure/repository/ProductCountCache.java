@@ -0,0 +1,92 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+
+/**
+ * 상품 목록 전체 건수 캐시
+ * - 같은 조건(정규화한 키워드/카테고리/가격 범위/상태)의 count(*) 는 TTL 동안 한 번만 실행한다.
+ *   건수는 화면 표시용이라 TTL 만큼 늦게 반영되어도 된다.
+ * - 조건이 없는 전체 목록은 count(*) 대신 PostgreSQL 통계(pg_class.reltuples) 추정치를 쓴다.
+ *   (ANALYZE/autovacuum 시점 기준 근사값이며 soft delete 된 행도 포함, 통계가 없으면 실제로 센다)
+ */
+@Component
+public class ProductCountCache {
+
+	private final ProductRepository productRepository;
+	private final boolean estimateUnfiltered;
+	private final Cache<CountKey, Long> cache;
+
+	public ProductCountCache(
+		ProductRepository productRepository,
+		@Value("${product.count.ttl:30s}") Duration ttl,
+		@Value("${product.count.max-size:10000}") long maxSize,
+		@Value("${product.count.estimate-unfiltered:true}") boolean estimateUnfiltered
+	) {
+		this.productRepository = productRepository;
+		this.estimateUnfiltered = estimateUnfiltered;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.maximumSize(maxSize)
+			.build();
+	}
+
+	public long count(CountKey key, LongSupplier exactCount) {
+		return cache.get(key, k -> {
+			if (estimateUnfiltered && k.isUnfiltered()) {
+				long estimate = productRepository.estimateCount();
+				if (estimate > 0) {
+					return estimate;
+				}
+			}
+			return exactCount.getAsLong();
+		});
+	}
+
+	/**
+	 * 건수 캐시 키 - scope 는 조회 종류(구매자 검색/판매자/관리자), 나머지는 정규화한 조건
+	 */
+	public record CountKey(
+		String scope,
+		UUID ownerId,
+		String keyword,
+		UUID categoryId,
+		BigDecimal minPrice,
+		BigDecimal maxPrice,
+		ProductStatus status
+	) {
+
+		public static CountKey of(String scope, UUID ownerId, String keyword, UUID categoryId,
+			BigDecimal minPrice, BigDecimal maxPrice, ProductStatus status) {
+			return new CountKey(scope, ownerId, normalize(keyword), categoryId,
+				normalize(minPrice), normalize(maxPrice), status);
+		}
+
+		boolean isUnfiltered() {
+			return ownerId == null && keyword == null && categoryId == null
+				&& minPrice == null && maxPrice == null && status == null;
+		}
+
+		// 키워드 조건(ProductQueryRepository.keywordContains)과 같은 기준으로 공백을 정리하고, 대소문자 무시
+		private static String normalize(String keyword) {
+			String normalized = ProductQueryRepository.normalizeKeyword(keyword);
+			return normalized != null ? normalized.toLowerCase(Locale.ROOT) : null;
+		}
+
+		// 1000 과 1000.00 을 같은 키로
+		private static BigDecimal normalize(BigDecimal price) {
+			return price != null ? price.stripTrailingZeros() : null;
+		}
+	}
+}
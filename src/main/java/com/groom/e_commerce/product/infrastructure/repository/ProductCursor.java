@@ -0,0 +1,46 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.domain.entity.Product;
+
+/**
+ * 상품 목록 커서 - 마지막으로 받은 상품의 (created_at, product_id)
+ * 클라이언트에는 불투명한 문자열(base64url)로 내려준다.
+ */
+public record ProductCursor(LocalDateTime createdAt, UUID productId) {
+
+	private static final String SEPARATOR = "|";
+
+	public static ProductCursor of(Product product) {
+		return new ProductCursor(product.getCreatedAt(), product.getId());
+	}
+
+	public String encode() {
+		String raw = createdAt + SEPARATOR + productId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// null/빈 값이면 첫 페이지
+	public static ProductCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(SEPARATOR);
+			return new ProductCursor(
+				LocalDateTime.parse(raw.substring(0, separator)),
+				UUID.fromString(raw.substring(separator + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CustomException(ErrorCode.VALIDATION_ERROR, "잘못된 커서입니다.");
+		}
+	}
+}
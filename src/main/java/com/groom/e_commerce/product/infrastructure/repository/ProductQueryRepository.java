@@ -6,17 +6,30 @@ import static com.groom.e_commerce.product.domain.entity.QProductVariant.product
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import com.groom.e_commerce.global.presentation.dto.CursorPage;
 import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.QCategory;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.repository.ProductCountCache.CountKey;
+import com.groom.e_commerce.product.infrastructure.search.ProductSearchHits;
+import com.groom.e_commerce.product.infrastructure.search.ProductSearchIndex;
+import com.groom.e_commerce.product.infrastructure.search.ProductSearchQuery;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -26,9 +39,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductQueryRepository {
 
+	private static final String SEARCH = "search";
+	private static final String SELLER = "seller";
+	private static final String MANAGER = "manager";
+
 	private final JPAQueryFactory queryFactory;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductCountCache productCountCache;
 
 	// 사용자/관리자 상품 검색 (키워드, 카테고리, 가격 범위, 상태)
+	// 키워드가 있으면 검색 색인에서 페이지 ID만 받아 그 상품들만 조회한다. (색인 준비 전이면 DB 검색)
 	public Page<Product> searchProducts(
 		String keyword,
 		UUID categoryId,
@@ -37,18 +57,27 @@ public class ProductQueryRepository {
 		ProductStatus status,
 		Pageable pageable
 	) {
+		if (StringUtils.hasText(keyword)) {
+			Optional<ProductSearchHits> hits = productSearchIndex.search(new ProductSearchQuery(
+				keyword, categoryId, minPrice, maxPrice, status, pageable.getOffset(), pageable.getPageSize()));
+			if (hits.isPresent()) {
+				return new PageImpl<>(findAllInOrder(hits.get().productIds()), pageable, hits.get().total());
+			}
+		}
+
+		BooleanExpression categoryCondition = categoryInSubtree(categoryId);
 		List<Product> content = queryFactory
 			.selectFrom(product)
 			.leftJoin(product.category, category).fetchJoin()
 			.where(
 				keywordContains(keyword),
-				categoryIdEq(categoryId),
+				categoryCondition,
 				priceGoe(minPrice),
 				priceLoe(maxPrice),
 				statusEq(status),
 				notDeleted()
 			)
-			.orderBy(product.createdAt.desc())
+			.orderBy(product.createdAt.desc(), product.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -58,14 +87,16 @@ public class ProductQueryRepository {
 			.from(product)
 			.where(
 				keywordContains(keyword),
-				categoryIdEq(categoryId),
+				categoryCondition,
 				priceGoe(minPrice),
 				priceLoe(maxPrice),
 				statusEq(status),
 				notDeleted()
 			);
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		CountKey countKey = CountKey.of(SEARCH, null, keyword, categoryId, minPrice, maxPrice, status);
+		return PageableExecutionUtils.getPage(content, pageable,
+			() -> productCountCache.count(countKey, countQuery::fetchOne));
 	}
 
 	// Owner가 자신의 상품 목록을 조회할 때 사용
@@ -82,7 +113,7 @@ public class ProductQueryRepository {
 				statusEq(status),
 				notDeleted()
 			)
-			.orderBy(product.createdAt.desc())
+			.orderBy(product.createdAt.desc(), product.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -96,7 +127,9 @@ public class ProductQueryRepository {
 				notDeleted()
 			);
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		CountKey countKey = CountKey.of(SELLER, ownerId, null, null, null, null, status);
+		return PageableExecutionUtils.getPage(content, pageable,
+			() -> productCountCache.count(countKey, countQuery::fetchOne));
 	}
 
 	// manager 페이지에서 상품 전체를 관리할 때 사용
@@ -113,7 +146,7 @@ public class ProductQueryRepository {
 				statusEq(status),
 				notDeleted()
 			)
-			.orderBy(product.createdAt.desc())
+			.orderBy(product.createdAt.desc(), product.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -127,7 +160,62 @@ public class ProductQueryRepository {
 				notDeleted()
 			);
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		CountKey countKey = CountKey.of(MANAGER, null, keyword, null, null, null, status);
+		return PageableExecutionUtils.getPage(content, pageable,
+			() -> productCountCache.count(countKey, countQuery::fetchOne));
+	}
+
+	// 커서(키셋) 페이지 버전 - (created_at, product_id) 복합 인덱스를 역순으로 읽어 size+1 건만 가져온다.
+	// 깊은 페이지도 앞 페이지를 건너뛰지 않으며, 전체 건수는 withTotal 일 때만 센다.
+	public CursorPage<Product> searchProductsByCursor(
+		String keyword,
+		UUID categoryId,
+		BigDecimal minPrice,
+		BigDecimal maxPrice,
+		ProductStatus status,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		CountKey countKey = CountKey.of(SEARCH, null, keyword, categoryId, minPrice, maxPrice, status);
+		return fetchCursorPage(cursor, size, withTotal ? countKey : null,
+			keywordContains(keyword),
+			categoryInSubtree(categoryId),
+			priceGoe(minPrice),
+			priceLoe(maxPrice),
+			statusEq(status),
+			notDeleted()
+		);
+	}
+
+	public CursorPage<Product> findSellerProductsByCursor(
+		UUID ownerId,
+		ProductStatus status,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		CountKey countKey = CountKey.of(SELLER, ownerId, null, null, null, null, status);
+		return fetchCursorPage(cursor, size, withTotal ? countKey : null,
+			ownerIdEq(ownerId),
+			statusEq(status),
+			notDeleted()
+		);
+	}
+
+	public CursorPage<Product> findAllForManagerByCursor(
+		String keyword,
+		ProductStatus status,
+		String cursor,
+		int size,
+		boolean withTotal
+	) {
+		CountKey countKey = CountKey.of(MANAGER, null, keyword, null, null, null, status);
+		return fetchCursorPage(cursor, size, withTotal ? countKey : null,
+			keywordContains(keyword),
+			statusEq(status),
+			notDeleted()
+		);
 	}
 
 	//여러 상품 ID들을 받아, 각 상품의 옵션까지 한 번에 가져옴 (장바구니/주문용 일괄 조회)
@@ -140,15 +228,92 @@ public class ProductQueryRepository {
 			.fetch();
 	}
 
+	// countKey 가 null 이면 전체 건수를 세지 않는다.
+	private CursorPage<Product> fetchCursorPage(String cursor, int size, CountKey countKey,
+		BooleanExpression... conditions) {
+		List<Product> rows = queryFactory
+			.selectFrom(product)
+			.leftJoin(product.category, category).fetchJoin()
+			.where(conditions)
+			.where(after(ProductCursor.decode(cursor)))
+			.orderBy(product.createdAt.desc(), product.id.desc())
+			.limit(size + 1L)
+			.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<Product> content = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? ProductCursor.of(content.get(content.size() - 1)).encode() : null;
+
+		Long totalCount = countKey != null
+			? productCountCache.count(countKey,
+				() -> queryFactory.select(product.count()).from(product).where(conditions).fetchOne())
+			: null;
+		return new CursorPage<>(List.copyOf(content), nextCursor, hasNext, totalCount);
+	}
+
+	// (created_at, product_id) < (커서) - created_at 상한을 따로 걸어 인덱스 범위 스캔이 되도록 한다.
+	private BooleanExpression after(ProductCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return product.createdAt.loe(cursor.createdAt())
+			.and(product.createdAt.lt(cursor.createdAt())
+				.or(product.createdAt.eq(cursor.createdAt()).and(product.id.lt(cursor.productId()))));
+	}
+
+	// 색인이 정한 순서대로 상품(+카테고리)을 한 번에 조회
+	private List<Product> findAllInOrder(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		Map<UUID, Product> products = queryFactory
+			.selectFrom(product)
+			.leftJoin(product.category, category).fetchJoin()
+			.where(product.id.in(productIds))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
+
+		return productIds.stream()
+			.map(products::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	// lower(title/description) like ? 로 나가며, 트라이그램 식 인덱스(schema-postgresql.sql)를 탄다.
 	private BooleanExpression keywordContains(String keyword) {
-		return StringUtils.hasText(keyword)
-			? product.title.containsIgnoreCase(keyword)
-			.or(product.description.containsIgnoreCase(keyword))
+		String normalized = normalizeKeyword(keyword);
+		return normalized != null
+			? product.title.containsIgnoreCase(normalized)
+			.or(product.description.containsIgnoreCase(normalized))
 			: null;
 	}
 
-	private BooleanExpression categoryIdEq(UUID categoryId) {
-		return categoryId != null ? product.category.id.eq(categoryId) : null;
+	// 앞뒤 공백 제거, 연속 공백은 하나로 (건수 캐시 키도 같은 기준)
+	static String normalizeKeyword(String keyword) {
+		return StringUtils.hasText(keyword) ? keyword.strip().replaceAll("\\s+", " ") : null;
+	}
+
+	// 카테고리와 그 하위 카테고리 전체 - 경로 접두어(path LIKE '/../id/%') 한 번으로 깊이와 무관하게 찾는다.
+	// 접두어를 상수로 넘겨야 path 인덱스를 타므로 경로를 먼저 조회한다. (경로가 아직 없으면 해당 카테고리만)
+	private BooleanExpression categoryInSubtree(UUID categoryId) {
+		if (categoryId == null) {
+			return null;
+		}
+		String path = queryFactory
+			.select(category.path)
+			.from(category)
+			.where(category.id.eq(categoryId))
+			.fetchOne();
+		if (path == null) {
+			return product.category.id.eq(categoryId);
+		}
+
+		QCategory subtree = new QCategory("subtree");
+		return product.category.id.in(JPAExpressions
+			.select(subtree.id)
+			.from(subtree)
+			.where(subtree.path.startsWith(path)));
 	}
 
 	private BooleanExpression priceGoe(BigDecimal minPrice) {
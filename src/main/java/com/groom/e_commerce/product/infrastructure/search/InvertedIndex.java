@@ -0,0 +1,159 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 상품 역색인 (동기화는 ProductSearchIndex 가 담당, 이 클래스는 스레드 안전하지 않음)
+ * - 토큰 → 문서 번호 목록(PostingList), 문서 번호 → 필터용 값(Entry)
+ * - 상품이 바뀌면 새 문서 번호로 다시 넣고 이전 번호는 비워 둔다. (이전 토큰을 지우려면 문서별 토큰을 들고 있어야 해서)
+ *   비워진 번호는 검색 시 건너뛰고, 주기적인 전체 재구성 때 정리된다.
+ * - 정렬 키(order)는 처음 등록된 순서라 수정해도 목록 위치가 바뀌지 않는다.
+ * - 들어 있는 문서보다 updatedAt 이 이른 문서와 삭제된 상품의 문서는 무시한다. (늦게 도착한 예전 스냅샷)
+ */
+final class InvertedIndex {
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+	private final List<Entry> entries = new ArrayList<>();
+	private final Map<UUID, Integer> docIds = new HashMap<>();
+	private final Set<UUID> removed = new HashSet<>();
+	private int nextOrder;
+
+	/**
+	 * @return 반영했으면 true, 예전 스냅샷이거나 삭제된 상품이면 false
+	 */
+	boolean upsert(ProductDocument document) {
+		if (removed.contains(document.productId())) {
+			return false;
+		}
+		Integer previous = docIds.get(document.productId());
+		if (previous != null && isOlder(document.updatedAt(), entries.get(previous).updatedAt())) {
+			return false;
+		}
+		int order = previous != null ? entries.get(previous).order() : nextOrder++;
+		if (previous != null) {
+			entries.set(previous, null);
+		}
+
+		int docId = entries.size();
+		entries.add(new Entry(
+			document.productId(),
+			document.categoryIds().toArray(new UUID[0]),
+			document.price(),
+			document.status(),
+			document.updatedAt(),
+			order
+		));
+		docIds.put(document.productId(), docId);
+
+		for (String term : terms(document)) {
+			postings.computeIfAbsent(term, key -> new PostingList()).add(docId);
+		}
+		return true;
+	}
+
+	void remove(UUID productId) {
+		removed.add(productId);
+		Integer docId = docIds.remove(productId);
+		if (docId != null) {
+			entries.set(docId, null);
+		}
+	}
+
+	// 버전을 모르면(null) 새 것으로 본다. 같은 시각은 반영 (재고 벌크 UPDATE 는 updatedAt 을 바꾸지 않음)
+	private static boolean isOlder(LocalDateTime candidate, LocalDateTime current) {
+		return candidate != null && current != null && candidate.isBefore(current);
+	}
+
+	int size() {
+		return docIds.size();
+	}
+
+	/**
+	 * 검색어 토큰을 모두 가진 문서 중 조건에 맞는 것을 등록 역순으로 정렬해 offset/limit 만큼 반환
+	 */
+	ProductSearchHits search(Set<String> terms, ProductSearchQuery query) {
+		List<PostingList> lists = new ArrayList<>(terms.size());
+		for (String term : terms) {
+			PostingList list = postings.get(term);
+			if (list == null) {
+				return new ProductSearchHits(List.of(), 0);
+			}
+			lists.add(list);
+		}
+		lists.sort(Comparator.comparingInt(PostingList::size));
+
+		// (order << 32 | docId) 로 묶어 정렬
+		PostingList smallest = lists.get(0);
+		long[] matches = new long[smallest.size()];
+		int count = 0;
+		for (int i = smallest.size() - 1; i >= 0; i--) {
+			int docId = smallest.get(i);
+			Entry entry = entries.get(docId);
+			if (entry == null || !entry.matches(query) || !containsAll(lists, docId)) {
+				continue;
+			}
+			matches[count++] = ((long)entry.order() << 32) | docId;
+		}
+		Arrays.sort(matches, 0, count);
+
+		List<UUID> page = new ArrayList<>();
+		long end = Math.min(count, query.offset() + query.limit());
+		for (long rank = query.offset(); rank < end; rank++) {
+			int docId = (int)matches[count - 1 - (int)rank];
+			page.add(entries.get(docId).productId());
+		}
+		return new ProductSearchHits(page, count);
+	}
+
+	private static boolean containsAll(List<PostingList> lists, int docId) {
+		for (int i = 1; i < lists.size(); i++) {
+			if (!lists.get(i).contains(docId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Set<String> terms(ProductDocument document) {
+		Set<String> terms = new LinkedHashSet<>(NgramTokenizer.tokenize(document.title()));
+		terms.addAll(NgramTokenizer.tokenize(document.description()));
+		terms.addAll(NgramTokenizer.tokenize(document.categoryPath()));
+		return terms;
+	}
+
+	private record Entry(
+		UUID productId,
+		UUID[] categoryIds,
+		BigDecimal price,
+		ProductStatus status,
+		LocalDateTime updatedAt,
+		int order
+	) {
+
+		boolean matches(ProductSearchQuery query) {
+			if (query.status() != null && query.status() != status) {
+				return false;
+			}
+			if (query.minPrice() != null && (price == null || price.compareTo(query.minPrice()) < 0)) {
+				return false;
+			}
+			if (query.maxPrice() != null && (price == null || price.compareTo(query.maxPrice()) > 0)) {
+				return false;
+			}
+			return query.categoryId() == null || Arrays.asList(categoryIds).contains(query.categoryId());
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 2-gram 토크나이저
+ * - 한국어는 형태소 분석 없이 음절 2-gram 으로 자른다. ("러닝운동화" → 러닝, 닝운, 운동, 동화)
+ *   검색어의 2-gram 을 모두 가진 문서를 찾으므로 "운동화" 로 "러닝운동화" 가 검색된다.
+ * - 문자/숫자가 아닌 글자는 단어 구분자로 보고, 영문은 소문자로 맞춘다.
+ * - 한 글자 단어는 그 글자 하나를 토큰으로 쓴다. (긴 단어 속 한 글자 검색은 지원하지 않음)
+ */
+public final class NgramTokenizer {
+
+	static final int GRAM = 2;
+
+	private NgramTokenizer() {
+	}
+
+	public static Set<String> tokenize(String text) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+
+		int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+		int start = -1;
+		for (int i = 0; i <= codePoints.length; i++) {
+			boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				addWord(tokens, codePoints, start, i);
+				start = -1;
+			}
+		}
+		return tokens;
+	}
+
+	private static void addWord(Set<String> tokens, int[] codePoints, int start, int end) {
+		if (end - start <= GRAM) {
+			tokens.add(new String(codePoints, start, end - start));
+			return;
+		}
+		for (int i = start; i + GRAM <= end; i++) {
+			tokens.add(new String(codePoints, i, GRAM));
+		}
+	}
+}
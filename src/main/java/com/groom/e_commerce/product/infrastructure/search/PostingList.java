@@ -0,0 +1,57 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰을 가진 문서 번호 목록 (오름차순 int 배열)
+ * - 문서 번호는 등록순으로 커지므로 추가는 대부분 끝에 붙는다.
+ */
+final class PostingList {
+
+	private int[] docs = new int[4];
+	private int size;
+
+	void add(int doc) {
+		if (size == 0 || docs[size - 1] < doc) {
+			ensureCapacity();
+			docs[size++] = doc;
+			return;
+		}
+		int index = Arrays.binarySearch(docs, 0, size, doc);
+		if (index >= 0) {
+			return;
+		}
+		int insertAt = -index - 1;
+		ensureCapacity();
+		System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+		docs[insertAt] = doc;
+		size++;
+	}
+
+	void remove(int doc) {
+		int index = Arrays.binarySearch(docs, 0, size, doc);
+		if (index < 0) {
+			return;
+		}
+		System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+		size--;
+	}
+
+	boolean contains(int doc) {
+		return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int get(int index) {
+		return docs[index];
+	}
+
+	private void ensureCapacity() {
+		if (size == docs.length) {
+			docs = Arrays.copyOf(docs, docs.length * 2);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 색인 대상 상품
+ * - categoryIds: 상품 카테고리와 그 상위 카테고리 전체 (상위 카테고리로 필터해도 걸리도록)
+ * - categoryPath: "상의 > 티셔츠" 처럼 카테고리 이름 경로 (검색어로도 찾는다)
+ * - updatedAt: 문서 버전 - 이미 들어 있는 문서보다 오래된 스냅샷은 반영하지 않는다.
+ */
+public record ProductDocument(
+	UUID productId,
+	List<UUID> categoryIds,
+	String categoryPath,
+	String title,
+	String description,
+	BigDecimal price,
+	ProductStatus status,
+	LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 색인 검색 결과 - 요청한 페이지의 상품 ID(최신 등록순)와 전체 건수
+ */
+public record ProductSearchHits(List<UUID> productIds, long total) {
+}
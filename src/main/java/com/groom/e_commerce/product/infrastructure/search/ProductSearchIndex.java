@@ -0,0 +1,310 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.event.CategoryMovedEvent;
+import com.groom.e_commerce.product.domain.event.ProductChangedEvent;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductIndexRow;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 상품 검색 색인
+ * - 기동 후 p_product 를 커서로 한 번 훑어 만들고, 이후 ProductChangedEvent 로 커밋된 변경만 반영한다.
+ * - 변경 반영은 전용 스레드 하나가 맡는다. 커밋한 스레드(주문 등)는 상품 ID 만 넘기고 바로 돌아가며,
+ *   같은 상품의 변경이 몰리면 한 번만 다시 읽는다. 읽기와 반영을 한 스레드가 차례로 하므로
+ *   먼저 읽은 예전 스냅샷이 나중 것을 덮어쓰지 않는다. (문서 버전 updatedAt 으로 한 번 더 막는다)
+ * - 주기적으로 전체를 다시 만들어 교체한다. (수정/삭제로 비워진 문서 번호와 카테고리 이름 변경 정리)
+ * - 다시 만드는 동안 들어온 변경은 모아 두었다가 새 색인에도 반영한 뒤 교체한다.
+ * - 첫 구성이 끝나기 전이거나 꺼져 있으면 search 는 empty 를 반환하고, 호출한 쪽은 DB 로 검색한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+	private static final String PATH_SEPARATOR = " > ";
+	private static final int DRAIN_BATCH_SIZE = 500;
+
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final boolean enabled;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// lock 으로 보호
+	private InvertedIndex index;
+	private List<Change> pending;
+
+	private volatile Map<UUID, CategoryPath> categoryPaths = Map.of();
+
+	// 반영 대기 중인 상품 ID - 색인 스레드(updater) 하나가 차례로 비운다.
+	private final Set<UUID> changedIds = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+	private final ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "product-search-index");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public ProductSearchIndex(
+		ProductRepository productRepository,
+		CategoryRepository categoryRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${product.search.index.enabled:true}") boolean enabled
+	) {
+		this.productRepository = productRepository;
+		this.categoryRepository = categoryRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.enabled = enabled;
+	}
+
+	public Optional<ProductSearchHits> search(ProductSearchQuery query) {
+		Set<String> terms = NgramTokenizer.tokenize(query.keyword());
+		if (terms.isEmpty()) {
+			return Optional.empty();
+		}
+
+		lock.readLock().lock();
+		try {
+			return index != null ? Optional.of(index.search(terms, query)) : Optional.empty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 커밋 후 호출 - 상품 ID 만 쌓고 반영은 색인 스레드에 맡긴다. (여기서 DB 를 읽거나 예외를 던지지 않는다)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		changedIds.add(event.productId());
+		scheduleDrain();
+	}
+
+	/**
+	 * 카테고리 이동 커밋 후 - 색인 스레드에서 카테고리 경로를 다시 읽고, 옮겨진 하위 트리의 상품 문서를 다시 만든다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCategoryMoved(CategoryMovedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			updater.execute(() -> refreshCategory(event));
+		} catch (RejectedExecutionException e) {
+			// 종료 중 - 다음 기동 때 전체 구성으로 반영된다.
+			log.debug("Product search index is shutting down, skip category move: {}", event.categoryId());
+		}
+	}
+
+	@Scheduled(
+		initialDelayString = "${product.search.index.warm-delay-ms:0}",
+		fixedDelayString = "${product.search.index.rebuild-delay-ms:3600000}"
+	)
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			pending = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		InvertedIndex next;
+		try {
+			categoryPaths = loadCategoryPaths();
+			next = readOnlyTransaction.execute(status -> {
+				InvertedIndex building = new InvertedIndex();
+				try (Stream<ProductIndexRow> rows = productRepository.streamIndexRows()) {
+					rows.map(this::toDocument).forEach(building::upsert);
+				}
+				return building;
+			});
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pending = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			log.warn("Product search index rebuild failed", e);
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			for (Change change : pending) {
+				change.applyTo(next);
+			}
+			index = next;
+			pending = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("Product search index rebuilt: products={}", next.size());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		updater.shutdownNow();
+	}
+
+	private void scheduleDrain() {
+		if (!drainScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			updater.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			// 종료 중 - 남은 변경은 다음 기동 때 전체 구성으로 반영된다.
+			drainScheduled.set(false);
+		}
+	}
+
+	// 쌓인 상품 ID 를 묶어 다시 읽고 반영한다. 실패한 ID 는 다시 쌓아 다음 변경 때 함께 처리한다.
+	private void drain() {
+		drainScheduled.set(false);
+		List<UUID> ids = new ArrayList<>();
+		for (UUID id : changedIds) {
+			changedIds.remove(id);
+			ids.add(id);
+			if (ids.size() == DRAIN_BATCH_SIZE) {
+				refresh(ids);
+				ids = new ArrayList<>();
+			}
+		}
+		if (!ids.isEmpty()) {
+			refresh(ids);
+		}
+	}
+
+	private void refresh(List<UUID> ids) {
+		try {
+			Map<UUID, ProductDocument> documents = new HashMap<>();
+			for (ProductIndexRow row : productRepository.findIndexRowsByIds(ids)) {
+				documents.put(row.productId(), toDocument(row));
+			}
+			for (UUID id : ids) {
+				apply(new Change(id, documents.get(id)));
+			}
+		} catch (RuntimeException e) {
+			changedIds.addAll(ids);
+			log.warn("Product search index update failed: products={}", ids.size(), e);
+		}
+	}
+
+	private void refreshCategory(CategoryMovedEvent event) {
+		try {
+			categoryPaths = loadCategoryPaths();
+			changedIds.addAll(productRepository.findIdsByCategoryPathLike(event.path() + "%"));
+		} catch (RuntimeException e) {
+			// 다음 전체 구성(rebuild) 때 바로잡힌다.
+			log.warn("Product search index category refresh failed: category={}", event.categoryId(), e);
+			return;
+		}
+		drain();
+	}
+
+	private void apply(Change change) {
+		lock.writeLock().lock();
+		try {
+			if (index != null) {
+				change.applyTo(index);
+			}
+			if (pending != null) {
+				pending.add(change);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private ProductDocument toDocument(ProductIndexRow row) {
+		CategoryPath path = categoryPaths.get(row.categoryId());
+		if (path == null) {
+			// 색인 구성 후 새로 생긴 카테고리
+			categoryPaths = loadCategoryPaths();
+			path = categoryPaths.getOrDefault(row.categoryId(), new CategoryPath(List.of(row.categoryId()), ""));
+		}
+		return new ProductDocument(
+			row.productId(),
+			path.categoryIds(),
+			path.names(),
+			row.title(),
+			row.description(),
+			row.price(),
+			row.status(),
+			row.updatedAt()
+		);
+	}
+
+	// 카테고리 id → 자신부터 최상위까지의 id 목록과 이름 경로
+	private Map<UUID, CategoryPath> loadCategoryPaths() {
+		Map<UUID, Category> categories = new HashMap<>();
+		for (Category category : categoryRepository.findAll()) {
+			categories.put(category.getId(), category);
+		}
+
+		Map<UUID, CategoryPath> paths = new HashMap<>();
+		for (Category category : categories.values()) {
+			List<UUID> ids = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			Category current = category;
+			while (current != null && ids.size() <= categories.size()) {
+				ids.add(current.getId());
+				names.add(0, current.getName());
+				current = current.getParent() != null ? categories.get(current.getParent().getId()) : null;
+			}
+			paths.put(category.getId(), new CategoryPath(List.copyOf(ids), String.join(PATH_SEPARATOR, names)));
+		}
+		return Map.copyOf(paths);
+	}
+
+	private record CategoryPath(List<UUID> categoryIds, String names) {
+	}
+
+	// document 가 null 이면 삭제(또는 soft delete)
+	private record Change(UUID productId, ProductDocument document) {
+
+		void applyTo(InvertedIndex target) {
+			if (document != null) {
+				target.upsert(document);
+			} else {
+				target.remove(productId);
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 색인 검색 조건 - keyword 외 조건은 null 이면 적용하지 않는다.
+ */
+public record ProductSearchQuery(
+	String keyword,
+	UUID categoryId,
+	BigDecimal minPrice,
+	BigDecimal maxPrice,
+	ProductStatus status,
+	long offset,
+	int limit
+) {
+}
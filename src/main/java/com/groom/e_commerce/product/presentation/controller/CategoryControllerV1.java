@@ -3,18 +3,26 @@ package com.groom.e_commerce.product.presentation.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.e_commerce.product.application.service.CategoryServiceV1;
+import com.groom.e_commerce.product.presentation.dto.request.ReqCreateCategoryDtoV1;
+import com.groom.e_commerce.product.presentation.dto.request.ReqMoveCategoryDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResCategoryDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Tag(name = "Category", description = "카테고리 API")
@@ -47,4 +55,26 @@ public class CategoryControllerV1 {
 		ResCategoryDtoV1 category = categoryService.getCategory(categoryId);
 		return ResponseEntity.ok(category);
 	}
+
+	@Operation(summary = "카테고리 생성 (Manager)")
+	@PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+	@PostMapping
+	public ResponseEntity<ResCategoryDtoV1> createCategory(
+		@Valid @RequestBody ReqCreateCategoryDtoV1 request
+	) {
+		ResCategoryDtoV1 category = categoryService.createCategory(
+			request.getParentId(), request.getName(), request.getSortOrder());
+		return ResponseEntity.status(HttpStatus.CREATED).body(category);
+	}
+
+	@Operation(summary = "카테고리 이동 (Manager) - 하위 카테고리도 함께 옮겨진다")
+	@PreAuthorize("hasAnyRole('MANAGER', 'MASTER')")
+	@PatchMapping("/{categoryId}/parent")
+	public ResponseEntity<Void> moveCategory(
+		@PathVariable UUID categoryId,
+		@RequestBody ReqMoveCategoryDtoV1 request
+	) {
+		categoryService.moveCategory(categoryId, request.getParentId());
+		return ResponseEntity.noContent().build();
+	}
 }
@@ -0,0 +1,54 @@
+package com.groom.e_commerce.product.presentation.controller;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.groom.e_commerce.global.presentation.dto.CursorPage;
+import com.groom.e_commerce.product.application.service.ProductSearchServiceV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Product", description = "상품 API")
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductSearchControllerV1 {
+
+	private final ProductSearchServiceV1 productSearchService;
+
+	@Operation(summary = "상품 목록", description = "최신 등록순 커서 페이징. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지")
+	@GetMapping
+	public ResponseEntity<CursorPage<ResProductSearchDtoV1>> browse(
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) UUID categoryId,
+		@RequestParam(required = false) BigDecimal minPrice,
+		@RequestParam(required = false) BigDecimal maxPrice,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(defaultValue = "false") boolean withTotal
+	) {
+		return ResponseEntity.ok(productSearchService.browse(
+			keyword, categoryId, minPrice, maxPrice, cursor, size, withTotal));
+	}
+
+	@Operation(summary = "상품 검색", description = "제목/설명 단어 일치 및 제목 부분 일치, 관련도순")
+	@GetMapping("/search")
+	public ResponseEntity<Page<ResProductSearchDtoV1>> search(
+		@RequestParam String keyword,
+		@PageableDefault(size = 20) Pageable pageable
+	) {
+		return ResponseEntity.ok(productSearchService.search(keyword, pageable));
+	}
+}
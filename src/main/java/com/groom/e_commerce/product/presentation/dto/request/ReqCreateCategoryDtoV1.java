@@ -0,0 +1,22 @@
+package com.groom.e_commerce.product.presentation.dto.request;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReqCreateCategoryDtoV1 {
+
+	// 없으면 최상위 카테고리
+	private UUID parentId;
+
+	@NotBlank(message = "카테고리 이름은 필수입니다.")
+	@Size(max = 100, message = "카테고리 이름은 100자 이하여야 합니다.")
+	private String name;
+
+	private Integer sortOrder;
+}
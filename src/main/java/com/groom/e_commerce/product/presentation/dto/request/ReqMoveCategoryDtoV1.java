@@ -0,0 +1,14 @@
+package com.groom.e_commerce.product.presentation.dto.request;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReqMoveCategoryDtoV1 {
+
+	// 없으면 최상위로 이동
+	private UUID parentId;
+}
@@ -0,0 +1,33 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ResProductSearchDtoV1 {
+
+	private UUID id;
+	private UUID categoryId;
+	private String title;
+	private String thumbnailUrl;
+	private BigDecimal price;
+	private ProductStatus status;
+
+	public static ResProductSearchDtoV1 from(Product product) {
+		return ResProductSearchDtoV1.builder()
+			.id(product.getId())
+			.categoryId(product.getCategory().getId())
+			.title(product.getTitle())
+			.thumbnailUrl(product.getThumbnailUrl())
+			.price(product.getPrice())
+			.status(product.getStatus())
+			.build();
+	}
+}
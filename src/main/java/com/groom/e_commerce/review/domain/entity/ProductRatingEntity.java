@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 
 @Entity
 @Table(name = "p_product_rating")
@@ -19,7 +20,7 @@ import com.groom.e_commerce.global.domain.entity.BaseEntity;
 public class ProductRatingEntity extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	private UUID productRatingId;
 
 	@Column(nullable = false, unique = true)
@@ -14,6 +14,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 
 @Entity
 @Table(name = "p_review")
@@ -23,7 +24,7 @@ import com.groom.e_commerce.global.domain.entity.BaseEntity;
 public class ReviewEntity extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "review_id")
 	private UUID reviewId;
 
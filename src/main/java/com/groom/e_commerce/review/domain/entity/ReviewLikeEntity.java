@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 
 @Entity
 @Table(
@@ -24,7 +25,7 @@ import com.groom.e_commerce.global.domain.entity.BaseEntity;
 public class ReviewLikeEntity extends BaseEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	private UUID id;
 
 	@Column(name = "review_id", nullable = false)
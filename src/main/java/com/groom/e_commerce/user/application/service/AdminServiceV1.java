@@ -4,10 +4,10 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.e_commerce.global.infrastructure.config.security.PasswordHasher;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.user.domain.entity.UserEntity;
@@ -28,7 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminServiceV1 {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
+	private final UserAvailabilityService userAvailabilityService;
 
 	// ==================== Manager 기능 ====================
 
@@ -82,17 +83,18 @@ public class AdminServiceV1 {
 	 */
 	@Transactional
 	public ResUserDtoV1 createManager(ReqCreateManagerDtoV1 request) {
-		if (userRepository.existsByEmailAndDeletedAtIsNull(request.getEmail())) {
+		UserAvailabilityService.Availability availability =
+			userAvailabilityService.check(request.getEmail(), request.getNickname());
+		if (availability.emailTaken()) {
 			throw new CustomException(ErrorCode.EMAIL_DUPLICATED);
 		}
-
-		if (userRepository.existsByNicknameAndDeletedAtIsNull(request.getNickname())) {
+		if (availability.nicknameTaken()) {
 			throw new CustomException(ErrorCode.NICKNAME_DUPLICATED);
 		}
 
 		UserEntity manager = UserEntity.builder()
 			.email(request.getEmail())
-			.password(passwordEncoder.encode(request.getPassword()))
+			.password(passwordHasher.encode(request.getPassword()))
 			.nickname(request.getNickname())
 			.phoneNumber(request.getPhoneNumber())
 			.role(UserRole.MANAGER)
@@ -100,6 +102,7 @@ public class AdminServiceV1 {
 			.build();
 
 		userRepository.save(manager);
+		userAvailabilityService.register(request.getEmail(), request.getNickname());
 		log.info("Manager created: {}", request.getEmail());
 
 		return ResUserDtoV1.from(manager);
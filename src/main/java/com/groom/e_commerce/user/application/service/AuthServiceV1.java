@@ -1,15 +1,20 @@
 package com.groom.e_commerce.user.application.service;
 
 import java.util.Optional;
+import java.util.UUID;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
-import com.groom.e_commerce.global.infrastructure.config.security.JwtUtil;
+import com.groom.e_commerce.global.infrastructure.config.security.PasswordHasher;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.global.util.SecurityUtil;
 import com.groom.e_commerce.user.domain.entity.SellerEntity;
 import com.groom.e_commerce.user.domain.entity.UserEntity;
 import com.groom.e_commerce.user.domain.entity.UserRole;
@@ -17,7 +22,9 @@ import com.groom.e_commerce.user.domain.entity.UserStatus;
 import com.groom.e_commerce.user.domain.repository.SellerRepository;
 import com.groom.e_commerce.user.domain.repository.UserRepository;
 import com.groom.e_commerce.user.presentation.dto.request.ReqLoginDtoV1;
+import com.groom.e_commerce.user.presentation.dto.request.ReqRefreshTokenDtoV1;
 import com.groom.e_commerce.user.presentation.dto.request.ReqSignupDtoV1;
+import com.groom.e_commerce.user.presentation.dto.response.ResAvailabilityDtoV1;
 import com.groom.e_commerce.user.presentation.dto.response.ResTokenDtoV1;
 
 import lombok.RequiredArgsConstructor;
@@ -31,45 +38,106 @@ public class AuthServiceV1 {
 
 	private final UserRepository userRepository;
 	private final SellerRepository sellerRepository;
-	private final PasswordEncoder passwordEncoder;
-	private final JwtUtil jwtUtil;
-
-	@Transactional
+	private final PasswordHasher passwordHasher;
+	private final RefreshTokenService refreshTokenService;
+	private final UserAvailabilityService userAvailabilityService;
+	private final TransactionTemplate transactionTemplate;
+
+	// 비밀번호 해시(BCrypt) 동안 DB 커넥션을 잡지 않도록, 중복 확인과 해시는 트랜잭션 밖에서 하고
+	// 저장만 짧은 트랜잭션으로 처리한다. (그 사이 선점된 값은 flush 시 유니크 제약으로 걸러진다)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void signup(ReqSignupDtoV1 request) {
 		// USER, OWNER만 회원가입 가능 (MANAGER는 MASTER가 생성)
 		if (request.getRole() != UserRole.USER && request.getRole() != UserRole.OWNER) {
 			throw new CustomException(ErrorCode.VALIDATION_ERROR, "USER 또는 OWNER만 회원가입할 수 있습니다.");
 		}
 
-		Optional<UserEntity> existingUser = userRepository.findByEmail(request.getEmail());
+		// 이메일 소유자와 닉네임 사용 여부를 한 번에 확인 (둘 다 필터에 없으면 DB 조회 없음)
+		UserAvailabilityService.Availability availability =
+			userAvailabilityService.check(request.getEmail(), request.getNickname());
 
-		if (existingUser.isPresent()) {
-			UserEntity user = existingUser.get();
-
-			if (user.isWithdrawn()) {
-				user.reactivate(
-					passwordEncoder.encode(request.getPassword()),
-					request.getNickname(),
-					request.getPhoneNumber()
-				);
-				log.info("User reactivated: {}", request.getEmail());
-				return;
-			} else {
-				throw new CustomException(ErrorCode.EMAIL_DUPLICATED);
-			}
+		if (availability.emailTaken()) {
+			throw new CustomException(ErrorCode.EMAIL_DUPLICATED);
 		}
-
-		if (userRepository.existsByNicknameAndDeletedAtIsNull(request.getNickname())) {
+		if (availability.nicknameTaken()) {
 			throw new CustomException(ErrorCode.NICKNAME_DUPLICATED);
 		}
+		if (availability.emailOwnerId() == null && request.isOwner()) {
+			validateOwnerFields(request);
+		}
 
+		String encodedPassword = passwordHasher.encode(request.getPassword());
+
+		if (availability.emailOwnerId() != null) {
+			transactionTemplate.executeWithoutResult(status ->
+				reactivate(availability.emailOwnerId(), request, encodedPassword));
+			log.info("User reactivated: {}", request.getEmail());
+			return;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> register(request, encodedPassword));
 		if (request.isOwner()) {
-			validateOwnerFields(request);
+			log.info("Owner signed up with store: {}", request.getStore());
+		} else {
+			log.info("User signed up: {}", request.getEmail());
+		}
+	}
+
+	// 비밀번호 검증(BCrypt) 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행
+	// 조회/해시 갱신/토큰 발급은 각각 짧은 트랜잭션으로 처리된다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ResTokenDtoV1 login(ReqLoginDtoV1 request) {
+		UserEntity user = userRepository.findByEmailAndDeletedAtIsNull(request.getEmail())
+			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+		if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
+			throw new CustomException(ErrorCode.INVALID_PASSWORD);
+		}
+
+		if (user.isWithdrawn()) {
+			throw new CustomException(ErrorCode.ALREADY_WITHDRAWN);
 		}
 
+		upgradePasswordHashIfNeeded(user, request.getPassword());
+		ResTokenDtoV1 tokens = refreshTokenService.issue(user);
+
+		log.info("User logged in: {} (role: {})", request.getEmail(), user.getRole());
+		return tokens;
+	}
+
+	// 재사용 탐지로 세션을 폐기한 뒤 예외를 던지므로, 그 폐기는 롤백되지 않아야 한다.
+	@Transactional(noRollbackFor = CustomException.class)
+	public ResTokenDtoV1 refresh(ReqRefreshTokenDtoV1 request) {
+		return refreshTokenService.rotate(request.getRefreshToken());
+	}
+
+	@Transactional
+	public void logout() {
+		refreshTokenService.logout(SecurityUtil.getCurrentSessionId());
+		log.info("User logged out");
+	}
+
+	public ResAvailabilityDtoV1 checkEmail(String email) {
+		return ResAvailabilityDtoV1.of(userAvailabilityService.isEmailAvailable(email));
+	}
+
+	public ResAvailabilityDtoV1 checkNickname(String nickname) {
+		return ResAvailabilityDtoV1.of(userAvailabilityService.isNicknameAvailable(nickname));
+	}
+
+	// 탈퇴 회원 재가입
+	private void reactivate(UUID userId, ReqSignupDtoV1 request, String encodedPassword) {
+		UserEntity user = userRepository.findById(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+		user.reactivate(encodedPassword, request.getNickname(), request.getPhoneNumber());
+		flushUniqueFields();
+		userAvailabilityService.register(request.getEmail(), request.getNickname());
+	}
+
+	private void register(ReqSignupDtoV1 request, String encodedPassword) {
 		UserEntity user = UserEntity.builder()
 			.email(request.getEmail())
-			.password(passwordEncoder.encode(request.getPassword()))
+			.password(encodedPassword)
 			.nickname(request.getNickname())
 			.phoneNumber(request.getPhoneNumber())
 			.role(request.getRole())
@@ -77,6 +145,8 @@ public class AuthServiceV1 {
 			.build();
 
 		userRepository.save(user);
+		flushUniqueFields();
+		userAvailabilityService.register(request.getEmail(), request.getNickname());
 
 		if (request.isOwner()) {
 			SellerEntity seller = SellerEntity.builder()
@@ -90,33 +160,46 @@ public class AuthServiceV1 {
 				.build();
 
 			sellerRepository.save(seller);
-			log.info("Owner signed up with store: {}", request.getStore());
-		} else {
-			log.info("User signed up: {}", request.getEmail());
 		}
 	}
 
-	public ResTokenDtoV1 login(ReqLoginDtoV1 request) {
-		UserEntity user = userRepository.findByEmailAndDeletedAtIsNull(request.getEmail())
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-			throw new CustomException(ErrorCode.INVALID_PASSWORD);
+	// 예전 방식으로 저장된 해시는 로그인 성공 시 현재 방식으로 다시 저장 (그 사이 비밀번호가 바뀌었으면 건너뜀)
+	private void upgradePasswordHashIfNeeded(UserEntity user, String rawPassword) {
+		if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+			return;
 		}
-
-		if (user.isWithdrawn()) {
-			throw new CustomException(ErrorCode.ALREADY_WITHDRAWN);
+		int updated = userRepository.upgradePassword(
+			user.getUserId(), user.getPassword(), passwordHasher.encode(rawPassword));
+		if (updated > 0) {
+			log.info("Password hash upgraded: {}", user.getUserId());
 		}
+	}
 
-		String accessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getEmail(), user.getRole().name());
-		String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), user.getEmail(), user.getRole().name());
-
-		log.info("User logged in: {} (role: {})", request.getEmail(), user.getRole());
-		return ResTokenDtoV1.of(accessToken, refreshToken);
+	// 사전 확인과 INSERT 사이에 같은 값이 먼저 가입된 경우 - 위반된 유니크 제약 이름으로 중복 오류를 돌려준다.
+	private void flushUniqueFields() {
+		try {
+			userRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			// 다른 제약 위반이면 그대로 던진다.
+			throw new CustomException(duplicateError(e).orElseThrow(() -> e));
+		}
 	}
 
-	public void logout() {
-		log.info("User logged out");
+	// 원인 체인에서 Hibernate ConstraintViolationException 을 찾아 제약 이름으로 판단 (드라이버 메시지에 의존하지 않음)
+	static Optional<ErrorCode> duplicateError(DataIntegrityViolationException e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				String constraintName = violation.getConstraintName();
+				if (UserEntity.UK_EMAIL.equalsIgnoreCase(constraintName)) {
+					return Optional.of(ErrorCode.EMAIL_DUPLICATED);
+				}
+				if (UserEntity.UK_NICKNAME.equalsIgnoreCase(constraintName)) {
+					return Optional.of(ErrorCode.NICKNAME_DUPLICATED);
+				}
+				return Optional.empty();
+			}
+		}
+		return Optional.empty();
 	}
 
 	private void validateDuplicateEmail(String email) {
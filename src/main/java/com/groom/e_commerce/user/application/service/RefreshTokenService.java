@@ -0,0 +1,137 @@
+package com.groom.e_commerce.user.application.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.e_commerce.global.domain.entity.UuidV7Generator;
+import com.groom.e_commerce.global.infrastructure.config.security.JwtClaims;
+import com.groom.e_commerce.global.infrastructure.config.security.JwtUtil;
+import com.groom.e_commerce.global.infrastructure.config.security.RevokedSessionRegistry;
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.user.domain.entity.RefreshTokenEntity;
+import com.groom.e_commerce.user.domain.entity.UserEntity;
+import com.groom.e_commerce.user.domain.repository.RefreshTokenRepository;
+import com.groom.e_commerce.user.domain.repository.UserRepository;
+import com.groom.e_commerce.user.presentation.dto.response.ResTokenDtoV1;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh token 발급/회전/폐기
+ * - 로그인마다 새 패밀리(= 세션 ID, sid)를 만들고, 회전할 때마다 같은 패밀리에 새 jti 를 발급한다.
+ * - 이미 회전된 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+ * - 폐기된 세션의 access token 은 RevokedSessionRegistry(메모리)로 차단한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class RefreshTokenService {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
+	private final JwtUtil jwtUtil;
+	private final RevokedSessionRegistry revokedSessionRegistry;
+	private final long accessTokenExpiration;
+
+	// 마지막으로 DB 에서 폐기 목록을 가져온 시각 (첫 실행은 access token 수명만큼 거슬러 올라감)
+	private volatile LocalDateTime lastRevocationSync;
+
+	public RefreshTokenService(
+		RefreshTokenRepository refreshTokenRepository,
+		UserRepository userRepository,
+		JwtUtil jwtUtil,
+		RevokedSessionRegistry revokedSessionRegistry,
+		@Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration
+	) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.userRepository = userRepository;
+		this.jwtUtil = jwtUtil;
+		this.revokedSessionRegistry = revokedSessionRegistry;
+		this.accessTokenExpiration = accessTokenExpiration;
+	}
+
+	/**
+	 * 로그인: 새 세션(패밀리)으로 토큰 발급
+	 */
+	public ResTokenDtoV1 issue(UserEntity user) {
+		return issueInFamily(user, UuidV7Generator.next());
+	}
+
+	/**
+	 * 회전: refresh token 1회 사용 → 같은 세션으로 새 토큰 쌍 발급
+	 * 재사용 탐지 시 패밀리 폐기는 예외와 함께 커밋되어야 하므로 CustomException 은 롤백하지 않는다.
+	 */
+	@Transactional(noRollbackFor = CustomException.class)
+	public ResTokenDtoV1 rotate(String refreshToken) {
+		JwtClaims claims = jwtUtil.parseRefreshToken(refreshToken);
+
+		RefreshTokenEntity current = refreshTokenRepository.findByIdForUpdate(claims.tokenId())
+			.filter(token -> token.getFamilyId().equals(claims.sessionId()))
+			.orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+
+		if (!current.isActive()) {
+			revokeFamily(current.getFamilyId());
+			log.warn("Refresh token reuse detected: userId={}, sessionId={}",
+				current.getUserId(), current.getFamilyId());
+			throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+		}
+		if (current.isExpired(LocalDateTime.now())) {
+			throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+		}
+
+		UserEntity user = userRepository.findByUserIdAndDeletedAtIsNull(current.getUserId())
+			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+		current.rotate();
+		return issueInFamily(user, current.getFamilyId());
+	}
+
+	/**
+	 * 로그아웃: 세션(패밀리)의 refresh token 을 모두 폐기하고 access token 도 즉시 차단
+	 */
+	public void logout(UUID sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		revokeFamily(sessionId);
+	}
+
+	/**
+	 * 다른 노드에서 폐기된 세션을 메모리 목록에 반영 (요청마다 DB 를 보지 않기 위해 주기적으로 동기화)
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.sync-delay-ms:5000}")
+	@Transactional(readOnly = true)
+	public void syncRevokedSessions() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime since = lastRevocationSync != null
+			? lastRevocationSync.minusSeconds(1)
+			: now.minusNanos(accessTokenExpiration * 1_000_000L);
+
+		refreshTokenRepository.findFamilyIdsRevokedSince(since)
+			.forEach(revokedSessionRegistry::revoke);
+		lastRevocationSync = now;
+	}
+
+	private ResTokenDtoV1 issueInFamily(UserEntity user, UUID familyId) {
+		LocalDateTime expiresAt = LocalDateTime.now().plus(jwtUtil.getRefreshTokenTtl());
+		RefreshTokenEntity token = refreshTokenRepository.save(
+			new RefreshTokenEntity(familyId, user.getUserId(), expiresAt));
+
+		String role = user.getRole().name();
+		String accessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getEmail(), role, familyId);
+		String refreshToken = jwtUtil.generateRefreshToken(
+			user.getUserId(), user.getEmail(), role, familyId, token.getTokenId());
+		return ResTokenDtoV1.of(accessToken, refreshToken);
+	}
+
+	private void revokeFamily(UUID familyId) {
+		refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+		revokedSessionRegistry.revoke(familyId);
+	}
+}
@@ -0,0 +1,184 @@
+package com.groom.e_commerce.user.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.groom.e_commerce.global.util.BloomFilter;
+import com.groom.e_commerce.user.domain.repository.UserAvailabilityView;
+import com.groom.e_commerce.user.domain.repository.UserIdentityView;
+import com.groom.e_commerce.user.domain.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 확인
+ * - 가입된 이메일/닉네임 전체를 Bloom filter 로 들고 있어, 필터에 없으면 DB 를 보지 않고 "사용 가능" 으로 답한다.
+ * - 필터에 있을 수도 있으면(또는 아직 적재 전이면) 이메일/닉네임을 한 번의 쿼리로 확인한다.
+ * - 필터는 삭제를 지원하지 않으므로 탈퇴/변경으로 풀린 값은 주기적으로 다시 만들어 정리한다.
+ *   (남아 있는 값은 오탐일 뿐이라 DB 로 한 번 더 확인하게 될 뿐이다)
+ */
+@Slf4j
+@Service
+public class UserAvailabilityService {
+
+	private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+	private final UserRepository userRepository;
+	private final long expectedInsertions;
+	private final double fpp;
+	private final int warmPageSize;
+
+	private final Object lock = new Object();
+
+	private volatile BloomFilter emails;
+	private volatile BloomFilter nicknames;
+
+	// 다시 만드는 중인 필터 - 그 사이 가입한 값도 함께 넣어야 교체 후 빠지지 않는다.
+	private BloomFilter buildingEmails;
+	private BloomFilter buildingNicknames;
+
+	public UserAvailabilityService(
+		UserRepository userRepository,
+		@Value("${user.availability.expected-insertions:1000000}") long expectedInsertions,
+		@Value("${user.availability.fpp:0.01}") double fpp,
+		@Value("${user.availability.warm-page-size:5000}") int warmPageSize
+	) {
+		this.userRepository = userRepository;
+		this.expectedInsertions = expectedInsertions;
+		this.fpp = fpp;
+		this.warmPageSize = warmPageSize;
+	}
+
+	/**
+	 * 가입용 확인: 이메일 소유자(탈퇴 회원 포함)와 이메일/닉네임 사용 여부
+	 */
+	public Availability check(String email, String nickname) {
+		if (!mightBeTaken(emails, email) && !mightBeTaken(nicknames, nickname)) {
+			return Availability.AVAILABLE;
+		}
+		UserAvailabilityView view = userRepository.findAvailability(email, nickname);
+		return new Availability(
+			view.getEmailOwnerId(),
+			Boolean.TRUE.equals(view.getEmailTaken()),
+			Boolean.TRUE.equals(view.getNicknameTaken())
+		);
+	}
+
+	public boolean isEmailAvailable(String email) {
+		if (!mightBeTaken(emails, email)) {
+			return true;
+		}
+		return !userRepository.existsByEmailAndDeletedAtIsNull(email);
+	}
+
+	public boolean isNicknameAvailable(String nickname) {
+		if (!mightBeTaken(nicknames, nickname)) {
+			return true;
+		}
+		return !userRepository.existsByNicknameAndDeletedAtIsNull(nickname);
+	}
+
+	/**
+	 * 닉네임이 필터에 없으면 확실히 아무도 쓰지 않는 값
+	 */
+	public boolean isNicknameDefinitelyFree(String nickname) {
+		return !mightBeTaken(nicknames, nickname);
+	}
+
+	/**
+	 * 가입/닉네임 변경 반영 - 롤백된 값이 남지 않도록 커밋 후에 넣는다. (남아도 오탐일 뿐이지만)
+	 */
+	public void register(String email, String nickname) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					put(email, nickname);
+				}
+			});
+			return;
+		}
+		put(email, nickname);
+	}
+
+	/**
+	 * 기동 직후 적재하고, 이후 주기적으로 새로 만들어 교체
+	 */
+	@Scheduled(
+		initialDelayString = "${user.availability.warm-delay-ms:0}",
+		fixedDelayString = "${user.availability.rebuild-delay-ms:3600000}"
+	)
+	public void rebuild() {
+		BloomFilter nextEmails = new BloomFilter(expectedInsertions, fpp);
+		BloomFilter nextNicknames = new BloomFilter(expectedInsertions, fpp);
+		synchronized (lock) {
+			buildingEmails = nextEmails;
+			buildingNicknames = nextNicknames;
+		}
+
+		long count = 0;
+		try {
+			UUID after = MIN_UUID;
+			List<UserIdentityView> page;
+			do {
+				page = userRepository.findIdentitiesAfter(after, PageRequest.of(0, warmPageSize));
+				for (UserIdentityView identity : page) {
+					putIfPresent(nextEmails, identity.email());
+					putIfPresent(nextNicknames, identity.nickname());
+					after = identity.userId();
+				}
+				count += page.size();
+			} while (page.size() == warmPageSize);
+		} catch (RuntimeException e) {
+			synchronized (lock) {
+				buildingEmails = null;
+				buildingNicknames = null;
+			}
+			log.warn("User availability filter rebuild failed", e);
+			return;
+		}
+
+		synchronized (lock) {
+			emails = nextEmails;
+			nicknames = nextNicknames;
+			buildingEmails = null;
+			buildingNicknames = null;
+		}
+		log.info("User availability filter rebuilt: users={}", count);
+	}
+
+	private void put(String email, String nickname) {
+		synchronized (lock) {
+			putIfPresent(emails, email);
+			putIfPresent(buildingEmails, email);
+			putIfPresent(nicknames, nickname);
+			putIfPresent(buildingNicknames, nickname);
+		}
+	}
+
+	// 아직 적재 전(null)이면 있을 수도 있다고 보고 DB 로 확인
+	private static boolean mightBeTaken(BloomFilter filter, String value) {
+		return value == null || filter == null || filter.mightContain(value);
+	}
+
+	private static void putIfPresent(BloomFilter filter, String value) {
+		if (filter != null && value != null) {
+			filter.put(value);
+		}
+	}
+
+	public record Availability(
+		UUID emailOwnerId,
+		boolean emailTaken,
+		boolean nicknameTaken
+	) {
+		static final Availability AVAILABLE = new Availability(null, false, false);
+	}
+}
@@ -7,11 +7,11 @@ import java.util.UUID;
 
 import com.groom.e_commerce.user.domain.entity.AddressEntity;
 import com.groom.e_commerce.user.domain.repository.AddressRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.groom.e_commerce.global.infrastructure.config.security.PasswordHasher;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.global.util.SecurityUtil;
@@ -34,7 +34,8 @@ public class UserServiceV1 {
 
 	private final UserRepository userRepository;
     private final AddressRepository addressRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
+	private final UserAvailabilityService userAvailabilityService;
 
 	public ResUserDtoV1 getMe() {
 		UUID userId = SecurityUtil.getCurrentUserId();
@@ -57,6 +58,7 @@ public class UserServiceV1 {
 		if (StringUtils.hasText(request.getNickname())) {
 			validateNicknameNotTaken(request.getNickname(), userId);
 			user.updateNickname(request.getNickname());
+			userAvailabilityService.register(null, request.getNickname());
 		}
 
 		if (StringUtils.hasText(request.getPhoneNumber())) {
@@ -64,7 +66,7 @@ public class UserServiceV1 {
 		}
 
 		if (StringUtils.hasText(request.getPassword())) {
-			user.updatePassword(passwordEncoder.encode(request.getPassword()));
+			user.updatePassword(passwordHasher.encode(request.getPassword()));
 		}
 
 		log.info("User updated: {}", userId);
@@ -103,6 +105,9 @@ public class UserServiceV1 {
 	}
 
 	private void validateNicknameNotTaken(String nickname, UUID currentUserId) {
+		if (userAvailabilityService.isNicknameDefinitelyFree(nickname)) {
+			return;
+		}
 		userRepository.findByNickname(nickname)
 			.filter(u -> !u.getUserId().equals(currentUserId))
 			.ifPresent(u -> {
@@ -0,0 +1,83 @@
+package com.groom.e_commerce.user.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.e_commerce.global.domain.entity.UuidV7;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급한 refresh token (jti 단위)
+ * - familyId: 로그인 1번에서 이어지는 토큰 묶음 = 세션 ID(sid). 회전해도 유지된다.
+ * - 토큰 원문은 저장하지 않고 jti 로만 찾는다. (서명 검증을 통과해야 jti 를 믿을 수 있음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "p_refresh_token",
+	indexes = {
+		@Index(name = "idx_refresh_token_family", columnList = "family_id"),
+		@Index(name = "idx_refresh_token_status_revoked_at", columnList = "status, revoked_at")
+	}
+)
+public class RefreshTokenEntity {
+
+	@Id
+	@UuidV7
+	@Column(name = "token_id", columnDefinition = "uuid")
+	private UUID tokenId;
+
+	@Column(name = "family_id", nullable = false, columnDefinition = "uuid")
+	private UUID familyId;
+
+	@Column(name = "user_id", nullable = false, columnDefinition = "uuid")
+	private UUID userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	private RefreshTokenStatus status;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "rotated_at")
+	private LocalDateTime rotatedAt;
+
+	@Column(name = "revoked_at")
+	private LocalDateTime revokedAt;
+
+	public RefreshTokenEntity(UUID familyId, UUID userId, LocalDateTime expiresAt) {
+		this.familyId = familyId;
+		this.userId = userId;
+		this.status = RefreshTokenStatus.ACTIVE;
+		this.expiresAt = expiresAt;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public boolean isActive() {
+		return this.status == RefreshTokenStatus.ACTIVE;
+	}
+
+	public boolean isExpired(LocalDateTime now) {
+		return !this.expiresAt.isAfter(now);
+	}
+
+	public void rotate() {
+		this.status = RefreshTokenStatus.ROTATED;
+		this.rotatedAt = LocalDateTime.now();
+	}
+}
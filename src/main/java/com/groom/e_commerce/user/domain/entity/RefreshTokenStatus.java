@@ -0,0 +1,7 @@
+package com.groom.e_commerce.user.domain.entity;
+
+public enum RefreshTokenStatus {
+	ACTIVE,   // 사용 가능 (패밀리당 1개)
+	ROTATED,  // 새 토큰으로 교체됨 - 다시 들어오면 재사용(탈취)으로 본다
+	REVOKED   // 로그아웃/재사용 탐지로 폐기
+}
@@ -5,17 +5,17 @@ import java.util.List;
 import java.util.UUID;
 
 import com.groom.e_commerce.global.domain.entity.BaseEntity;
+import com.groom.e_commerce.global.domain.entity.UuidV7;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,31 +24,41 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "p_user")
+@Table(
+	name = "p_user",
+	uniqueConstraints = {
+		@UniqueConstraint(name = UserEntity.UK_EMAIL, columnNames = "email"),
+		@UniqueConstraint(name = UserEntity.UK_NICKNAME, columnNames = "nickname")
+	}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
 public class UserEntity extends BaseEntity {
 
+	// 유니크 제약 이름 - 가입 경합 시 위반된 제약으로 어떤 값이 중복인지 판단한다.
+	public static final String UK_EMAIL = "uk_user_email";
+	public static final String UK_NICKNAME = "uk_user_nickname";
+
 	// =========================
 	// PK
 	// =========================
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7
 	@Column(name = "user_id", columnDefinition = "uuid")
 	private UUID userId;
 
 	// =========================
 	// Basic Info
 	// =========================
-	@Column(name = "email", length = 100, nullable = false, unique = true)
+	@Column(name = "email", length = 100, nullable = false)
 	private String email;
 
 	@Column(name = "password", length = 255, nullable = false)
 	private String password;
 
-	@Column(name = "nickname", length = 200, nullable = false, unique = true)
+	@Column(name = "nickname", length = 200, nullable = false)
 	private String nickname;
 
 	@Column(name = "phone_number", length = 200, nullable = false)
@@ -0,0 +1,39 @@
+package com.groom.e_commerce.user.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.user.domain.entity.RefreshTokenEntity;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+	// 같은 토큰으로 동시에 들어온 회전 요청은 한 건만 성공해야 한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM RefreshTokenEntity t WHERE t.tokenId = :tokenId")
+	Optional<RefreshTokenEntity> findByIdForUpdate(@Param("tokenId") UUID tokenId);
+
+	@Modifying
+	@Query("UPDATE RefreshTokenEntity t "
+		+ "SET t.status = com.groom.e_commerce.user.domain.entity.RefreshTokenStatus.REVOKED, t.revokedAt = :now "
+		+ "WHERE t.familyId = :familyId "
+		+ "AND t.status <> com.groom.e_commerce.user.domain.entity.RefreshTokenStatus.REVOKED")
+	int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+	// 다른 노드에서 폐기된 세션을 메모리 목록에 반영할 때 사용
+	@Query("SELECT DISTINCT t.familyId FROM RefreshTokenEntity t "
+		+ "WHERE t.status = com.groom.e_commerce.user.domain.entity.RefreshTokenStatus.REVOKED "
+		+ "AND t.revokedAt > :since")
+	List<UUID> findFamilyIdsRevokedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,17 @@
+package com.groom.e_commerce.user.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 가입 가능 여부 조회 결과 (한 번의 쿼리)
+ * - emailOwnerId: 이 이메일을 가진 회원 (탈퇴 회원 포함, 없으면 null)
+ * - emailTaken / nicknameTaken: 탈퇴하지 않은 회원이 사용 중인지
+ */
+public interface UserAvailabilityView {
+
+	UUID getEmailOwnerId();
+
+	Boolean getEmailTaken();
+
+	Boolean getNicknameTaken();
+}
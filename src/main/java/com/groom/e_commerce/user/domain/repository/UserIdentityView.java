@@ -0,0 +1,10 @@
+package com.groom.e_commerce.user.domain.repository;
+
+import java.util.UUID;
+
+public record UserIdentityView(
+	UUID userId,
+	String email,
+	String nickname
+) {
+}
@@ -1,12 +1,17 @@
 package com.groom.e_commerce.user.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.e_commerce.user.domain.entity.UserEntity;
 import com.groom.e_commerce.user.domain.entity.UserRole;
@@ -27,10 +32,34 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
 	// boolean existsByNickname(String nickname);
 	// ----
 
+	// 가입 전 이메일/닉네임 중복 확인을 한 번에
+	@Query(value = "SELECT "
+		+ "(SELECT u.user_id FROM p_user u WHERE u.email = :email) AS emailOwnerId, "
+		+ "EXISTS (SELECT 1 FROM p_user u WHERE u.email = :email AND u.deleted_at IS NULL) AS emailTaken, "
+		+ "EXISTS (SELECT 1 FROM p_user u WHERE u.nickname = :nickname AND u.deleted_at IS NULL) AS nicknameTaken",
+		nativeQuery = true)
+	UserAvailabilityView findAvailability(@Param("email") String email, @Param("nickname") String nickname);
+
+	// 중복 확인 필터 적재용 (userId 키셋 페이징)
+	@Query("SELECT new com.groom.e_commerce.user.domain.repository.UserIdentityView(u.userId, u.email, u.nickname) "
+		+ "FROM UserEntity u WHERE u.userId > :after ORDER BY u.userId")
+	List<UserIdentityView> findIdentitiesAfter(@Param("after") UUID after, Pageable pageable);
+
 	Optional<UserEntity> findByUserIdAndDeletedAtIsNull(UUID userId);
 
 	Optional<UserEntity> findByEmailAndDeletedAtIsNull(String email);
 
+	// 로그인 시 해시 방식 갱신 - 읽은 뒤 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+	@Transactional
+	@Modifying
+	@Query("UPDATE UserEntity u SET u.password = :newPassword "
+		+ "WHERE u.userId = :userId AND u.password = :oldPassword")
+	int upgradePassword(
+		@Param("userId") UUID userId,
+		@Param("oldPassword") String oldPassword,
+		@Param("newPassword") String newPassword
+	);
+
 	// Manager용: 회원 목록 조회
 	Page<UserEntity> findByDeletedAtIsNull(Pageable pageable);
 
@@ -2,14 +2,18 @@ package com.groom.e_commerce.user.presentation.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.e_commerce.user.application.service.AuthServiceV1;
 import com.groom.e_commerce.user.presentation.dto.request.ReqLoginDtoV1;
+import com.groom.e_commerce.user.presentation.dto.request.ReqRefreshTokenDtoV1;
 import com.groom.e_commerce.user.presentation.dto.request.ReqSignupDtoV1;
+import com.groom.e_commerce.user.presentation.dto.response.ResAvailabilityDtoV1;
 import com.groom.e_commerce.user.presentation.dto.response.ResTokenDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,13 +36,31 @@ public class AuthControllerV1 {
 		return ResponseEntity.status(HttpStatus.CREATED).build();
 	}
 
+	@Operation(summary = "이메일 사용 가능 여부 확인")
+	@GetMapping("/check-email")
+	public ResponseEntity<ResAvailabilityDtoV1> checkEmail(@RequestParam String email) {
+		return ResponseEntity.ok(authService.checkEmail(email));
+	}
+
+	@Operation(summary = "닉네임 사용 가능 여부 확인")
+	@GetMapping("/check-nickname")
+	public ResponseEntity<ResAvailabilityDtoV1> checkNickname(@RequestParam String nickname) {
+		return ResponseEntity.ok(authService.checkNickname(nickname));
+	}
+
 	@Operation(summary = "로그인 (JWT 발급)")
 	@PostMapping("/login")
 	public ResponseEntity<ResTokenDtoV1> login(@Valid @RequestBody ReqLoginDtoV1 request) {
 		return ResponseEntity.ok(authService.login(request));
 	}
 
-	@Operation(summary = "로그아웃")
+	@Operation(summary = "토큰 재발급", description = "refresh token은 1회용이며, 이미 사용된 토큰이 오면 해당 세션 전체가 폐기됩니다.")
+	@PostMapping("/refresh")
+	public ResponseEntity<ResTokenDtoV1> refresh(@Valid @RequestBody ReqRefreshTokenDtoV1 request) {
+		return ResponseEntity.ok(authService.refresh(request));
+	}
+
+	@Operation(summary = "로그아웃", description = "현재 세션의 refresh token과 access token을 폐기합니다.")
 	@PostMapping("/logout")
 	public ResponseEntity<Void> logout() {
 		authService.logout();
@@ -0,0 +1,15 @@
+package com.groom.e_commerce.user.presentation.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReqRefreshTokenDtoV1 {
+
+	@NotBlank(message = "refresh token은 필수입니다.")
+	private String refreshToken;
+}
@@ -0,0 +1,17 @@
+package com.groom.e_commerce.user.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ResAvailabilityDtoV1 {
+
+	private boolean available;
+
+	public static ResAvailabilityDtoV1 of(boolean available) {
+		return ResAvailabilityDtoV1.builder()
+			.available(available)
+			.build();
+	}
+}
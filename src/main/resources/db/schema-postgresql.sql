@@ -0,0 +1,71 @@
+-- 주문번호 시퀀스 (OrderNumberGenerator.BLOCK_SIZE 단위로 채번)
+CREATE SEQUENCE IF NOT EXISTS p_order_number_seq INCREMENT BY 100;
+
+-- p_payment.canceled_amount 백필 (컬럼 추가 전 취소 이력이 있는 결제만, 이미 채워진 행은 건드리지 않음)
+UPDATE p_payment p
+SET canceled_amount = c.total
+FROM (
+    SELECT pc.payment_id, SUM(pc.cancel_amount) AS total
+    FROM p_payment_cancel pc
+    JOIN p_payment target ON target.payment_id = pc.payment_id
+    WHERE target.canceled_amount = 0
+    GROUP BY pc.payment_id
+) c
+WHERE p.payment_id = c.payment_id;
+
+-- 상품 검색 (ProductRepository.searchByKeyword / ProductQueryRepository.keywordContains)
+-- - search_vector: 제목(A) + 설명(B) 단어 색인. 한국어 형태소 사전이 없어 'simple'(공백 단위)로 만든다.
+--   생성 컬럼이라 상품 INSERT/UPDATE 시 DB가 함께 갱신한다.
+-- - 트라이그램: 단어 중간 일치("운동화" → "러닝운동화")용. lower(...) 식 인덱스라 QueryDSL containsIgnoreCase
+--   (lower(col) like ?)도 그대로 인덱스를 탄다. (한글 트라이그램은 DB LC_CTYPE 이 UTF-8 로케일이어야 함)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE p_product ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_product_search_vector ON p_product USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_product_title_trgm ON p_product USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_description_trgm ON p_product USING GIN (lower(description) gin_trgm_ops);
+
+-- p_category.path 백필 (materialized path "/루트id/.../자신id/", 값이 다른 행만 갱신)
+WITH RECURSIVE tree AS (
+    SELECT c.category_id, '/' || c.category_id || '/' AS path
+    FROM p_category c
+    WHERE c.parent_id IS NULL
+    UNION ALL
+    SELECT c.category_id, t.path || c.category_id || '/'
+    FROM p_category c
+    JOIN tree t ON c.parent_id = t.category_id
+)
+UPDATE p_category c
+SET path = tree.path
+FROM tree
+WHERE c.category_id = tree.category_id
+  AND c.path IS DISTINCT FROM tree.path;
+
+-- 하위 트리 조회 (path LIKE '접두어%') 용 - 로케일과 무관하게 접두어 검색에 인덱스를 쓰도록 text_pattern_ops
+CREATE INDEX IF NOT EXISTS idx_category_path ON p_category (path text_pattern_ops);
+
+-- p_user 이메일/닉네임 유니크 제약 이름 정리 (UserEntity.UK_EMAIL / UK_NICKNAME)
+-- 예전 @Column(unique = true) 로 자동 이름이 붙은 제약이 남아 있으면 위반 시 그 이름이 보고되므로 지운다.
+-- (Hibernate 가 이름 붙인 제약을 먼저 만든 뒤 실행된다 / 본문은 스크립트 구분자(;)와 겹치지 않게 작은따옴표로 감쌈)
+DO '
+DECLARE
+    legacy record;
+BEGIN
+    FOR legacy IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = to_regclass(''p_user'')
+          AND con.contype = ''u''
+          AND cardinality(con.conkey) = 1
+          AND att.attname IN (''email'', ''nickname'')
+          AND con.conname NOT IN (''uk_user_email'', ''uk_user_nickname'')
+    LOOP
+        EXECUTE format(''ALTER TABLE p_user DROP CONSTRAINT %I'', legacy.conname);
+    END LOOP;
+END';
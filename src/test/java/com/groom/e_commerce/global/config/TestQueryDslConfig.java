@@ -1,9 +1,16 @@
 package com.groom.e_commerce.global.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.repository.ProductCountCache;
 import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.infrastructure.search.ProductSearchIndex;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -21,9 +28,18 @@ public class TestQueryDslConfig {
 	}
 
 	@Bean
-	public ProductQueryRepository productQueryRepository() {
+	public ProductQueryRepository productQueryRepository(
+		ProductRepository productRepository,
+		CategoryRepository categoryRepository,
+		PlatformTransactionManager transactionManager
+	) {
 		// 우리가 만든 QueryDSL 전용 리포지토리를 빈으로 등록합니다.
 		// 이걸 등록 안 하면 테스트 코드에서 @Autowired로 주입받을 수 없습니다.
-		return new ProductQueryRepository(jpaQueryFactory());
+		// 검색 색인과 건수 캐시는 꺼 두어 키워드 검색/건수도 매번 DB 쿼리로 동작합니다.
+		ProductSearchIndex productSearchIndex =
+			new ProductSearchIndex(productRepository, categoryRepository, transactionManager, false);
+		ProductCountCache productCountCache =
+			new ProductCountCache(productRepository, Duration.ZERO, 0L, false);
+		return new ProductQueryRepository(jpaQueryFactory(), productSearchIndex, productCountCache);
 	}
 }
@@ -0,0 +1,60 @@
+package com.groom.e_commerce.global.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+	@Test
+	@DisplayName("버전 7, IETF variant 비트가 설정된다")
+	void versionAndVariant() {
+		UUID uuid = UuidV7Generator.next();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("상위 48비트는 생성 시각(밀리초)이다")
+	void timestampPrefix() {
+		// 직전 값 - 다른 테스트가 한 밀리초에 순번(4096)을 넘겨 상태가 시계보다 앞서 있을 수 있다.
+		long previous = timestampOf(UuidV7Generator.next());
+		long before = System.currentTimeMillis();
+		UUID uuid = UuidV7Generator.next();
+		long after = System.currentTimeMillis();
+
+		// 시계를 따르거나, 상태가 앞서 있으면 직전 값에서 최대 1밀리초(순번 넘침)까지만 나아간다.
+		long timestamp = timestampOf(uuid);
+		assertThat(timestamp).isGreaterThanOrEqualTo(before);
+		assertThat(timestamp).isLessThanOrEqualTo(Math.max(after, previous + 1));
+	}
+
+	@Test
+	@DisplayName("같은 밀리초 안에서 연속 생성해도 단조 증가하고 중복이 없다")
+	void monotonic() {
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(UuidV7Generator.next());
+		}
+
+		Set<UUID> unique = new HashSet<>(ids);
+		assertThat(unique).hasSize(ids.size());
+		for (int i = 1; i < ids.size(); i++) {
+			// 상위 64비트(시각 + 순번)만으로 순서가 결정된다
+			assertThat(Long.compareUnsigned(
+				ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits())).isNegative();
+		}
+	}
+
+	private static long timestampOf(UUID uuid) {
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+}
@@ -0,0 +1,97 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
+class JwtUtilTest {
+
+	private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+	private final UUID userId = UUID.randomUUID();
+
+	@Nested
+	@DisplayName("parse()")
+	class ParseTest {
+
+		@Test
+		@DisplayName("한 번 파싱으로 사용자 ID/이메일/권한을 모두 꺼낸다")
+		void parse_ReturnsAllClaims() {
+			// given
+			JwtUtil jwtUtil = jwtUtil(3_600_000L, 0L);
+			String token = jwtUtil.generateAccessToken(userId, "user@groom.com", "USER");
+
+			// when
+			JwtClaims claims = jwtUtil.parse(token);
+
+			// then
+			assertThat(claims.userId()).isEqualTo(userId);
+			assertThat(claims.email()).isEqualTo("user@groom.com");
+			assertThat(claims.role()).isEqualTo("USER");
+		}
+
+		@Test
+		@DisplayName("검증된 토큰은 캐시에서 같은 클레임을 돌려준다")
+		void parse_CachedAfterFirstVerification() {
+			// given
+			JwtUtil jwtUtil = jwtUtil(3_600_000L, 100L);
+			String token = jwtUtil.generateAccessToken(userId, "user@groom.com", "USER");
+
+			// when
+			JwtClaims first = jwtUtil.parse(token);
+			JwtClaims second = jwtUtil.parse(token);
+
+			// then
+			assertThat(second).isSameAs(first);
+		}
+
+		@Test
+		@DisplayName("만료된 토큰은 EXPIRED_TOKEN 예외가 발생한다")
+		void parse_Expired() {
+			// given
+			JwtUtil jwtUtil = jwtUtil(-1_000L, 100L);
+			String token = jwtUtil.generateAccessToken(userId, "user@groom.com", "USER");
+
+			// when & then
+			assertThatThrownBy(() -> jwtUtil.parse(token))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.EXPIRED_TOKEN);
+				});
+		}
+
+		@Test
+		@DisplayName("서명이 변조된 토큰은 캐시에 있는 토큰과 달라 INVALID_TOKEN 예외가 발생한다")
+		void parse_Tampered() {
+			// given
+			JwtUtil jwtUtil = jwtUtil(3_600_000L, 100L);
+			String token = jwtUtil.generateAccessToken(userId, "user@groom.com", "USER");
+			jwtUtil.parse(token);
+			String tampered = token.substring(0, token.length() - 2)
+				+ (token.endsWith("AA") ? "BB" : "AA");
+
+			// when & then
+			assertThatThrownBy(() -> jwtUtil.parse(tampered))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+				});
+		}
+	}
+
+	private JwtUtil jwtUtil(long accessTokenExpiration, long cacheMaxSize) {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, accessTokenExpiration, 604_800_000L, cacheMaxSize);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+}
@@ -0,0 +1,124 @@
+package com.groom.e_commerce.global.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 TOO_MANY_REQUESTS 로 거절한다")
+	void rejectsWhenSaturated() {
+		// given: 스레드 1개, 대기열 1개, 해시 한 번에 200ms
+		PasswordHasher hasher = new PasswordHasher(
+			slowEncoder(), new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5), 200);
+
+		// when
+		int rejected = encodeConcurrently(hasher, 8);
+
+		// then: 실행 1 + 대기 1 을 넘는 요청은 거절
+		assertThat(rejected).isGreaterThanOrEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("해시를 기다리는 요청 스레드는 요청 스레드 수의 1/4 을 넘지 않는다")
+	void capsWaitersBelowRequestThreads() {
+		// given: 요청 스레드 8개 → 실행 1 + 대기 1 까지만 (설정한 대기열 100 은 무시)
+		PasswordHasher hasher = new PasswordHasher(
+			slowEncoder(), new SimpleMeterRegistry(), 1, 100, Duration.ofSeconds(5), 8);
+
+		// when
+		int rejected = encodeConcurrently(hasher, 8);
+
+		// then
+		assertThat(rejected).isGreaterThanOrEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("접두어 없는 예전 BCrypt 해시도 검증되고, 갱신 대상으로 판단된다")
+	void legacyHashMatchesAndNeedsUpgrade() {
+		// given
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		PasswordHasher hasher = new PasswordHasher(
+			encoder, new SimpleMeterRegistry(), 1, 10, Duration.ofSeconds(5), 200);
+		String legacy = bcrypt.encode("password");
+
+		// when
+		String upgraded = hasher.encode("password");
+
+		// then
+		assertThat(hasher.matches("password", legacy)).isTrue();
+		assertThat(hasher.upgradeEncoding(legacy)).isTrue();
+		assertThat(upgraded).startsWith("{bcrypt}");
+		assertThat(hasher.upgradeEncoding(upgraded)).isFalse();
+		hasher.shutdown();
+	}
+
+	// 동시에 encode 를 호출해 TOO_MANY_REQUESTS 로 거절된 수를 센다.
+	private int encodeConcurrently(PasswordHasher hasher, int callerCount) {
+		ExecutorService callers = Executors.newFixedThreadPool(callerCount);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+
+		List<CompletableFuture<Void>> calls = new ArrayList<>();
+		for (int i = 0; i < callerCount; i++) {
+			calls.add(CompletableFuture.runAsync(() -> {
+				try {
+					start.await();
+					hasher.encode("password");
+				} catch (CustomException e) {
+					if (e.getErrorCode() == ErrorCode.TOO_MANY_REQUESTS) {
+						rejected.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}, callers));
+		}
+		start.countDown();
+		CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+		callers.shutdown();
+		hasher.shutdown();
+		return rejected.get();
+	}
+
+	private PasswordEncoder slowEncoder() {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "hashed";
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return true;
+			}
+		};
+	}
+}
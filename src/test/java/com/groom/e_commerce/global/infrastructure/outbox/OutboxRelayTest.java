@@ -0,0 +1,176 @@
+package com.groom.e_commerce.global.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.domain.entity.OutboxEvent;
+import com.groom.e_commerce.global.domain.entity.OutboxStatus;
+import com.groom.e_commerce.global.domain.repository.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	private static final String EVENT_TYPE = "TEST_EVENT";
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	private final ActiveTransactionManager transactionManager = new ActiveTransactionManager();
+	private final List<Integer> activeTransactionsInHandler = new ArrayList<>();
+	private Consumer<OutboxEvent> onHandle = event -> {
+	};
+
+	private OutboxEvent event;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		event = new OutboxEvent("TEST", UUID.randomUUID(), EVENT_TYPE, "{\"value\":\"v\"}");
+		ReflectionTestUtils.setField(event, "outboxId", UUID.randomUUID());
+
+		OutboxEventHandler<TestPayload> handler = new OutboxEventHandler<>() {
+			@Override
+			public String eventType() {
+				return EVENT_TYPE;
+			}
+
+			@Override
+			public Class<TestPayload> payloadType() {
+				return TestPayload.class;
+			}
+
+			@Override
+			public void handle(TestPayload payload) {
+				activeTransactionsInHandler.add(transactionManager.active.get());
+				onHandle.accept(event);
+			}
+		};
+
+		outboxRelay = new OutboxRelay(outboxEventRepository, new TransactionTemplate(transactionManager),
+			new ObjectMapper(), List.of(handler));
+		ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+		ReflectionTestUtils.setField(outboxRelay, "leaseSeconds", 60L);
+		ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 10);
+
+		given(outboxEventRepository.findAvailableForUpdate(any(), anyInt())).willReturn(List.of(event));
+	}
+
+	@Test
+	@DisplayName("핸들러는 트랜잭션 밖에서 실행하고, 끝나면 점유를 확인해 처리 완료로 기록한다")
+	void relay_DispatchesOutsideTransaction() {
+		// given
+		given(outboxEventRepository.findByIdForUpdate(event.getOutboxId())).willReturn(Optional.of(event));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(activeTransactionsInHandler).containsExactly(0);
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+		assertThat(event.getClaimToken()).isNull();
+	}
+
+	@Test
+	@DisplayName("처리 전에 다른 relay 가 다시 가져간 이벤트는 실행하지 않는다")
+	void relay_SkipsWhenClaimLost() {
+		// given: 임대가 끝나 다른 relay 가 다른 토큰으로 가져감
+		given(outboxEventRepository.findByIdForUpdate(event.getOutboxId())).willAnswer(invocation -> {
+			event.markProcessing(UUID.randomUUID(), LocalDateTime.now().plusSeconds(60));
+			return Optional.of(event);
+		});
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(activeTransactionsInHandler).isEmpty();
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+	}
+
+	@Test
+	@DisplayName("처리 도중 점유가 넘어가면 완료로 기록하지 않는다")
+	void relay_DoesNotCompleteWhenClaimLostDuringDispatch() {
+		// given
+		UUID otherToken = UUID.randomUUID();
+		given(outboxEventRepository.findByIdForUpdate(event.getOutboxId())).willReturn(Optional.of(event));
+		onHandle = claimed -> claimed.markProcessing(otherToken, LocalDateTime.now().plusSeconds(60));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+		assertThat(event.getClaimToken()).isEqualTo(otherToken);
+	}
+
+	@Test
+	@DisplayName("핸들러가 실패하면 시도 횟수를 늘리고 지연 후 다시 처리하도록 되돌린다")
+	void relay_RetriesOnFailure() {
+		// given
+		given(outboxEventRepository.findByIdForUpdate(event.getOutboxId())).willReturn(Optional.of(event));
+		onHandle = claimed -> {
+			throw new IllegalStateException("PG 호출 실패");
+		};
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(event.getAttempts()).isEqualTo(1);
+		assertThat(event.getClaimToken()).isNull();
+		assertThat(event.getLastError()).isEqualTo("PG 호출 실패");
+		assertThat(event.getAvailableAt()).isAfter(LocalDateTime.now());
+	}
+
+	record TestPayload(String value) {
+	}
+
+	/**
+	 * 진행 중인 트랜잭션 수만 센다.
+	 */
+	private static class ActiveTransactionManager implements PlatformTransactionManager {
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			active.incrementAndGet();
+			return new SimpleTransactionStatus(true);
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			active.decrementAndGet();
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			active.decrementAndGet();
+		}
+	}
+}
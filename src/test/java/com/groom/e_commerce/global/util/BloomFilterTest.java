@@ -0,0 +1,46 @@
+package com.groom.e_commerce.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("넣은 값은 항상 있다고 답한다 (false negative 없음)")
+	void noFalseNegatives() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		List<UUID> inserted = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			UUID value = UUID.randomUUID();
+			filter.put(value);
+			inserted.add(value);
+		}
+
+		assertThat(inserted).allMatch(filter::mightContain);
+	}
+
+	@Test
+	@DisplayName("넣지 않은 값의 오탐률은 설정한 fpp 근처로 유지된다")
+	void falsePositiveRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@groom.com");
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("other" + i + "@groom.com")) {
+				falsePositives++;
+			}
+		}
+
+		assertThat((double)falsePositives / probes).isLessThan(0.02);
+	}
+}
@@ -0,0 +1,160 @@
+package com.groom.e_commerce.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.e_commerce.order.presentation.dto.request.OrderCreateItemRequest;
+import com.groom.e_commerce.order.presentation.dto.request.OrderCreateRequest;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.user.application.service.AddressServiceV1;
+import com.groom.e_commerce.user.presentation.dto.response.ResAddressDtoV1;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 주문 1건당 JDBC 문장 수 - 1/10/100줄 주문을 JDBC 배치 끔/켬으로 비교한다. (Hibernate Statistics)
+ * - ECommerceApplicationTests 와 같은 로컬 PostgreSQL 이 필요하다. 테스트 트랜잭션은 롤백되어 데이터가 남지 않는다.
+ * - 모든 줄이 같은 상품이라 재고 UPDATE 는 한 번으로 합쳐지고, 줄 수에 따라 늘어나는 것은 주문 상품 INSERT 뿐이다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class OrderCheckoutStatementCountTest {
+
+	private static final Logger log = LoggerFactory.getLogger(OrderCheckoutStatementCountTest.class);
+	private static final int[] LINES = {1, 10, 100};
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private AddressServiceV1 addressService;
+
+	// 주문번호 시퀀스는 100건마다 한 번 조회되어 측정값을 흔들므로 제외
+	@MockitoBean
+	private OrderNumberGenerator orderNumberGenerator;
+
+	// @Scheduled 작업(Outbox 릴레이 등)이 같은 SessionFactory 통계에 문장 수를 더하지 않도록 스케줄러를 멈춘다.
+	@MockitoBean
+	private TaskScheduler taskScheduler;
+
+	private final AtomicLong orderSequence = new AtomicLong();
+
+	@Test
+	@DisplayName("JDBC 배치를 켜면 주문 상품 INSERT 가 줄 수와 관계없이 한 번으로 묶인다")
+	void statementsPerCheckout() {
+		// given
+		Product product = saveProduct();
+		given(addressService.getAddress(any(), any())).willReturn(address());
+		given(orderNumberGenerator.generate()).willAnswer(invocation ->
+			String.format("BENCH-%014d", orderSequence.incrementAndGet()));
+
+		// when
+		Map<Integer, long[]> counts = new LinkedHashMap<>();
+		for (int lines : LINES) {
+			OrderCreateRequest request = request(product.getId(), lines);
+			long unbatched = countStatements(request, 1);
+			long batched = countStatements(request, null);
+			counts.put(lines, new long[] {unbatched, batched});
+			log.info("statements per checkout - lines={}, batching off={}, on={}", lines, unbatched, batched);
+		}
+
+		// then: 배치를 끄면 줄마다 INSERT 하나씩, 켜면 줄 수와 관계없이 같은 문장 수
+		long batchedSingleLine = counts.get(1)[1];
+		counts.forEach((lines, count) -> {
+			assertThat(count[0] - count[1]).as("lines=%d", lines).isEqualTo(lines - 1L);
+			assertThat(count[1]).as("lines=%d", lines).isEqualTo(batchedSingleLine);
+		});
+	}
+
+	// batchSize 가 null 이면 설정값(hibernate.jdbc.batch_size) 사용
+	private long countStatements(OrderCreateRequest request, Integer batchSize) {
+		Session session = entityManager.unwrap(Session.class);
+		session.setJdbcBatchSize(batchSize);
+		Statistics statistics = session.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		orderService.createOrder(UUID.randomUUID(), request);
+		entityManager.flush();
+
+		long count = statistics.getPrepareStatementCount();
+		entityManager.clear();
+		return count;
+	}
+
+	private Product saveProduct() {
+		Category category = categoryRepository.save(Category.builder()
+			.name("bench")
+			.depth(1)
+			.sortOrder(0)
+			.build());
+		Product product = productRepository.save(Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(category)
+			.title("bench product")
+			.price(new BigDecimal("1000"))
+			.stockQuantity(1_000)
+			.build());
+		entityManager.flush();
+		entityManager.clear();
+		return product;
+	}
+
+	private OrderCreateRequest request(UUID productId, int lines) {
+		List<OrderCreateItemRequest> items = new ArrayList<>();
+		for (int i = 0; i < lines; i++) {
+			OrderCreateItemRequest item = new OrderCreateItemRequest();
+			ReflectionTestUtils.setField(item, "productId", productId);
+			ReflectionTestUtils.setField(item, "quantity", 1);
+			items.add(item);
+		}
+		OrderCreateRequest request = new OrderCreateRequest();
+		ReflectionTestUtils.setField(request, "addressId", UUID.randomUUID());
+		ReflectionTestUtils.setField(request, "items", items);
+		return request;
+	}
+
+	private ResAddressDtoV1 address() {
+		return ResAddressDtoV1.builder()
+			.zipCode("04524")
+			.address("서울시 중구")
+			.detailAddress("1층")
+			.recipient("벤치")
+			.recipientPhone("010-0000-0000")
+			.build();
+	}
+}
@@ -0,0 +1,63 @@
+package com.groom.e_commerce.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.groom.e_commerce.order.infrastructure.repository.OrderNumberSequenceRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderNumberGeneratorTest {
+
+	@Mock
+	private OrderNumberSequenceRepository sequenceRepository;
+
+	@InjectMocks
+	private OrderNumberGenerator orderNumberGenerator;
+
+	@Test
+	@DisplayName("주문번호는 날짜 + 11자리 순번, 총 20자다")
+	void format() {
+		// given
+		given(sequenceRepository.nextBlockStart()).willReturn(1L);
+
+		// when
+		String orderNumber = orderNumberGenerator.generate();
+
+		// then
+		String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+		assertThat(orderNumber).isEqualTo(today + "-00000000001");
+		assertThat(orderNumber).hasSize(20);
+	}
+
+	@Test
+	@DisplayName("시퀀스는 블록 단위로 한 번만 조회하고, 소진되면 다음 블록을 받는다")
+	void allocatesInBlocks() {
+		// given
+		given(sequenceRepository.nextBlockStart()).willReturn(1L, 501L);
+
+		// when
+		Set<String> orderNumbers = new HashSet<>();
+		for (int i = 0; i < OrderNumberGenerator.BLOCK_SIZE + 1; i++) {
+			orderNumbers.add(orderNumberGenerator.generate());
+		}
+
+		// then
+		verify(sequenceRepository, times(2)).nextBlockStart();
+		assertThat(orderNumbers).hasSize(OrderNumberGenerator.BLOCK_SIZE + 1);
+		assertThat(orderNumbers).anyMatch(number -> number.endsWith("-00000000501"));
+	}
+}
@@ -0,0 +1,58 @@
+package com.groom.e_commerce.order.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OrderTest {
+
+	@Nested
+	@DisplayName("addItem")
+	class AddItemTest {
+
+		@Test
+		@DisplayName("주문 상품을 추가하면 총 결제 금액이 누적된다")
+		void addItem_accumulatesTotal() {
+			// given
+			Order order = Order.builder()
+				.buyerId(UUID.randomUUID())
+				.orderNumber("20260101-000001")
+				.build();
+
+			// when
+			order.addItem(item(order, 10000L, 2));
+			order.addItem(item(order, 3500L, 1));
+
+			// then
+			assertThat(order.getItem()).hasSize(2);
+			assertThat(order.getTotalPaymentAmount()).isEqualTo(BigInteger.valueOf(23500L));
+		}
+
+		@Test
+		@DisplayName("상품이 없으면 총 결제 금액은 0이다")
+		void noItem_zeroTotal() {
+			Order order = Order.builder()
+				.buyerId(UUID.randomUUID())
+				.orderNumber("20260101-000002")
+				.build();
+
+			assertThat(order.getTotalPaymentAmount()).isEqualTo(BigInteger.ZERO);
+		}
+
+		private OrderItem item(Order order, long unitPrice, int quantity) {
+			return OrderItem.builder()
+				.order(order)
+				.productId(UUID.randomUUID())
+				.ownerId(UUID.randomUUID())
+				.productTitle("상품")
+				.unitPrice(unitPrice)
+				.quantity(quantity)
+				.build();
+		}
+	}
+}
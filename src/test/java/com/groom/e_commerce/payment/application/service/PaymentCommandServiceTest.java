@@ -0,0 +1,233 @@
+package com.groom.e_commerce.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.payment.application.port.out.OrderQueryPort;
+import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossCancelResponse;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.presentation.dto.request.ReqCancelPaymentV1;
+import com.groom.e_commerce.payment.presentation.dto.request.ReqConfirmPaymentV1;
+import com.groom.e_commerce.payment.presentation.dto.response.ResCancelResultV1;
+import com.groom.e_commerce.payment.presentation.dto.response.ResPaymentV1;
+import com.groom.e_commerce.payment.presentation.exception.PaymentException;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCommandServiceTest {
+
+	private static final Duration PG_LATENCY = Duration.ofMillis(500);
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private TossPaymentPort tossPaymentPort;
+
+	@Mock
+	private OrderQueryPort orderQueryPort;
+
+	@Mock
+	private OutboxEventPublisher outboxEventPublisher;
+
+	@Mock
+	private PaymentIdempotencyService paymentIdempotencyService;
+
+	private RecordingTransactionManager transactionManager;
+	private PaymentCommandService paymentCommandService;
+
+	private final UUID orderId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		transactionManager = new RecordingTransactionManager();
+		paymentCommandService = new PaymentCommandService(
+			paymentRepository,
+			tossPaymentPort,
+			null,
+			orderQueryPort,
+			outboxEventPublisher,
+			new TransactionTemplate(transactionManager),
+			paymentIdempotencyService
+		);
+	}
+
+	@Nested
+	@DisplayName("confirm()")
+	class Confirm {
+
+		@Test
+		@DisplayName("PG 응답을 기다리는 동안에는 트랜잭션(커넥션)을 잡고 있지 않는다")
+		void confirm_TransactionExcludesPgLatency() {
+			// given
+			Payment payment = new Payment(orderId, 1000L, "toss");
+			given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+			given(paymentRepository.findByIdWithLock(any())).willReturn(Optional.of(payment));
+			given(paymentRepository.save(payment)).willReturn(payment);
+			given(tossPaymentPort.confirm(any(), anyString())).willReturn(
+				Mono.delay(PG_LATENCY).thenReturn(tossPayment("pk", 1000L)));
+
+			// when
+			long start = System.nanoTime();
+			ResPaymentV1 result = paymentCommandService.confirm(new ReqConfirmPaymentV1("pk", orderId, 1000L))
+				.block(Duration.ofSeconds(10));
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+			// then
+			assertThat(result.status()).isEqualTo("PAID");
+			assertThat(elapsed).isGreaterThanOrEqualTo(PG_LATENCY);
+			assertThat(transactionManager.holdTimes).hasSize(2);
+			assertThat(transactionManager.holdTimes).allSatisfy(hold -> assertThat(hold).isLessThan(PG_LATENCY));
+		}
+
+		@Test
+		@DisplayName("승인 결과는 행 락을 잡은 최종 트랜잭션에서 반영된다")
+		void confirm_AppliesUnderLock() {
+			// given
+			Payment payment = new Payment(orderId, 1000L, "toss");
+			given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+			given(paymentRepository.findByIdWithLock(any())).willReturn(Optional.of(payment));
+			given(paymentRepository.save(payment)).willReturn(payment);
+			given(tossPaymentPort.confirm(any(), eq(PaymentIdempotencyService.confirmKey(orderId, "pk"))))
+				.willReturn(Mono.just(tossPayment("pk", 1000L)));
+
+			// when
+			paymentCommandService.confirm(new ReqConfirmPaymentV1("pk", orderId, 1000L)).block();
+
+			// then
+			verify(paymentRepository).findByIdWithLock(any());
+			assertThat(payment.getPaymentKey()).isEqualTo("pk");
+		}
+
+		@Test
+		@DisplayName("기록된 승인 응답과 금액이 다른 요청에는 응답을 재사용하지 않고 거절한다")
+		void confirm_ReplayRejectsAmountMismatch() {
+			// given
+			ResPaymentV1 recorded = new ResPaymentV1("pk", orderId, "PAID", 1000L, 0L, "toss", OffsetDateTime.now());
+			given(paymentIdempotencyService.findCached(PaymentIdempotencyService.confirmKey(orderId, "pk"),
+				ResPaymentV1.class)).willReturn(Optional.of(recorded));
+
+			// when & then
+			assertThatThrownBy(() -> paymentCommandService.confirm(new ReqConfirmPaymentV1("pk", orderId, 10L))
+				.block(Duration.ofSeconds(10)))
+				.isInstanceOf(PaymentException.class)
+				.satisfies(ex -> assertThat(((PaymentException)ex).getCode()).isEqualTo("INVALID_AMOUNT"));
+			verify(tossPaymentPort, never()).confirm(any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("cancel()")
+	class Cancel {
+
+		@Test
+		@DisplayName("PG 취소를 기다리는 동안에는 트랜잭션을 잡고 있지 않고, 반영은 락을 잡고 한다")
+		void cancel_TransactionExcludesPgLatency() {
+			// given
+			Payment payment = new Payment(orderId, 1000L, "toss");
+			payment.markPaid("pk", OffsetDateTime.now());
+			given(paymentRepository.findByPaymentKey("pk")).willReturn(Optional.of(payment));
+			given(paymentRepository.findByPaymentKeyWithLock("pk")).willReturn(Optional.of(payment));
+			given(paymentRepository.save(payment)).willReturn(payment);
+			given(tossPaymentPort.cancel(eq("pk"), any(), anyString())).willReturn(
+				Mono.delay(PG_LATENCY).thenReturn(new TossCancelResponse("pk", "CANCELED", OffsetDateTime.now())));
+
+			// when
+			ResCancelResultV1 result = paymentCommandService.cancel("pk", new ReqCancelPaymentV1("단순 변심", null), "req-1")
+				.block(Duration.ofSeconds(10));
+
+			// then
+			assertThat(result.status()).isEqualTo("CANCELLED");
+			assertThat(result.canceledAmount()).isEqualTo(1000L);
+			assertThat(transactionManager.holdTimes).hasSize(2);
+			assertThat(transactionManager.holdTimes).allSatisfy(hold -> assertThat(hold).isLessThan(PG_LATENCY));
+			verify(paymentRepository).findByPaymentKeyWithLock("pk");
+		}
+
+		@Test
+		@DisplayName("첫 부분취소가 커밋된 뒤 같은 요청 키로 재시도하면 PG를 다시 호출하지 않고 기록된 응답을 돌려준다")
+		void cancel_RetriedPartialCancelReplays() {
+			// given
+			ResCancelResultV1 recorded = ResCancelResultV1.of("pk", "PAID", 400L);
+			given(paymentIdempotencyService.find(PaymentIdempotencyService.cancelKey("pk", "req-1"),
+				ResCancelResultV1.class)).willReturn(Optional.of(recorded));
+
+			// when
+			ResCancelResultV1 result = paymentCommandService
+				.cancel("pk", new ReqCancelPaymentV1("부분 취소", 400L), "req-1")
+				.block(Duration.ofSeconds(10));
+
+			// then
+			assertThat(result).isEqualTo(recorded);
+			verify(tossPaymentPort, never()).cancel(any(), any(), any());
+		}
+	}
+
+	private TossPaymentResponse tossPayment(String paymentKey, Long amount) {
+		return new TossPaymentResponse(paymentKey, orderId.toString(), null, null, null, "KRW", amount, "DONE",
+			OffsetDateTime.now(), OffsetDateTime.now(), amount, List.of());
+	}
+
+	/**
+	 * 트랜잭션 시작 ~ 커밋/롤백 사이 시간(= 커넥션 점유 시간)을 기록한다.
+	 */
+	private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+		private final Map<TransactionStatus, Long> startedAt = new ConcurrentHashMap<>();
+		private final List<Duration> holdTimes = new CopyOnWriteArrayList<>();
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			TransactionStatus status = new SimpleTransactionStatus(true);
+			startedAt.put(status, System.nanoTime());
+			return status;
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			end(status);
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			end(status);
+		}
+
+		private void end(TransactionStatus status) {
+			holdTimes.add(Duration.ofNanos(System.nanoTime() - startedAt.remove(status)));
+		}
+	}
+}
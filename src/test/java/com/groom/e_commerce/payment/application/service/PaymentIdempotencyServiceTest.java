@@ -0,0 +1,78 @@
+package com.groom.e_commerce.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.payment.domain.entity.PaymentIdempotency;
+import com.groom.e_commerce.payment.domain.repository.PaymentIdempotencyRepository;
+import com.groom.e_commerce.payment.presentation.dto.response.ResCancelResultV1;
+import com.groom.e_commerce.payment.presentation.dto.response.ResPaymentV1;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyServiceTest {
+
+	@Mock
+	private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+	private PaymentIdempotencyService paymentIdempotencyService;
+
+	@BeforeEach
+	void setUp() {
+		paymentIdempotencyService = new PaymentIdempotencyService(paymentIdempotencyRepository, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("멱등키는 결제 상태와 무관하게 주문/취소 요청 키에서 만들어진다")
+	void keysAreStable() {
+		UUID orderId = UUID.randomUUID();
+
+		assertThat(PaymentIdempotencyService.confirmKey(orderId, "pk"))
+			.isEqualTo(PaymentIdempotencyService.confirmKey(orderId, "pk"))
+			.isNotEqualTo(PaymentIdempotencyService.confirmKey(orderId, "pk-other"));
+		assertThat(PaymentIdempotencyService.cancelKey("pk", "req-1"))
+			.isEqualTo(PaymentIdempotencyService.cancelKey("pk", "req-1"))
+			.isNotEqualTo(PaymentIdempotencyService.cancelKey("pk", "req-2"));
+	}
+
+	@Test
+	@DisplayName("저장된 응답은 한 번만 DB에서 읽고 이후에는 캐시에서 재사용한다")
+	void find_LoadsOnceThenCaches() {
+		// given
+		String key = PaymentIdempotencyService.cancelKey("pk", "req-1");
+		given(paymentIdempotencyRepository.findByIdempotencyKey(key)).willReturn(Optional.of(
+			new PaymentIdempotency(key, "{\"paymentKey\":\"pk\",\"status\":\"CANCELLED\",\"canceledAmount\":1000}")));
+
+		// when
+		Optional<ResCancelResultV1> first = paymentIdempotencyService.find(key, ResCancelResultV1.class);
+		Optional<ResCancelResultV1> second = paymentIdempotencyService.findCached(key, ResCancelResultV1.class);
+
+		// then
+		assertThat(first).contains(ResCancelResultV1.of("pk", "CANCELLED", 1000L));
+		assertThat(second).isEqualTo(first);
+		verify(paymentIdempotencyRepository, times(1)).findByIdempotencyKey(key);
+	}
+
+	@Test
+	@DisplayName("기록이 없으면 빈 값을 돌려준다")
+	void find_Miss() {
+		// given
+		String key = PaymentIdempotencyService.confirmKey(UUID.randomUUID(), "pk");
+		given(paymentIdempotencyRepository.findByIdempotencyKey(key)).willReturn(Optional.empty());
+
+		// when & then
+		assertThat(paymentIdempotencyService.find(key, ResPaymentV1.class)).isEmpty();
+	}
+}
@@ -0,0 +1,181 @@
+package com.groom.e_commerce.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentReconcileTarget;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.adapter.TossPaymentAdapter;
+import com.groom.e_commerce.payment.infrastructure.api.toss.client.TossPaymentsClient;
+import com.groom.e_commerce.payment.infrastructure.config.PaymentReconciliationProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * 로컬 스텁 PG를 상대로 대사 배치를 돌려본다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private OutboxEventPublisher outboxEventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private HttpServer stubPg;
+	private PaymentReconciliationService reconciliationService;
+
+	private final UUID readyPaymentId = UUID.randomUUID();
+	private final UUID readyOrderId = UUID.randomUUID();
+	private final UUID paidPaymentId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubPg = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		// 결제창만 열고 떠난 주문: PG에 결제 건 없음
+		stubPg.createContext("/v1/payments/orders/", exchange -> respond(exchange, 404, """
+			{"code":"NOT_FOUND_PAYMENT","message":"존재하지 않는 결제 정보 입니다."}
+			"""));
+		// READY 였던 결제: PG에서는 승인 완료
+		stubPg.createContext("/v1/payments/orders/" + readyOrderId, exchange -> respond(exchange, 200, """
+			{"paymentKey":"pk-ready","orderId":"%s","status":"DONE","totalAmount":1000,
+			 "approvedAt":"2026-01-01T10:00:00+09:00","cancels":[]}
+			""".formatted(readyOrderId)));
+		// PAID 결제: PG에서는 300원 부분 취소됨
+		stubPg.createContext("/v1/payments/pk-paid", exchange -> respond(exchange, 200, """
+			{"paymentKey":"pk-paid","status":"PARTIAL_CANCELED","totalAmount":1000,"balanceAmount":700,
+			 "cancels":[{"cancelAmount":300,"cancelReason":"부분 취소","canceledAt":"2026-01-01T11:00:00+09:00"}]}
+			"""));
+		stubPg.start();
+
+		WebClient webClient = WebClient.create("http://localhost:" + stubPg.getAddress().getPort());
+		TossPaymentAdapter tossPaymentAdapter = new TossPaymentAdapter(
+			new TossPaymentsClient(webClient, "test_sk"),
+			CircuitBreakerRegistry.ofDefaults(),
+			BulkheadRegistry.ofDefaults(),
+			RetryRegistry.ofDefaults()
+		);
+
+		reconciliationService = new PaymentReconciliationService(
+			paymentRepository,
+			tossPaymentAdapter,
+			new PaymentStatusSynchronizer(paymentRepository, outboxEventPublisher),
+			new PaymentReconciliationProperties(true, 100, 4, 1000, Duration.ofMinutes(30), Duration.ofDays(1)),
+			transactionManager
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubPg.stop(0);
+	}
+
+	@Test
+	@DisplayName("PG 상태와 다른 결제를 찾아 승인/부분취소를 보정한다")
+	void reconcile_CorrectsStatusAndCancels() {
+		// given
+		Payment readyPayment = payment(readyPaymentId, readyOrderId);
+		Payment paidPayment = payment(paidPaymentId, UUID.randomUUID());
+		paidPayment.markPaid("pk-paid", OffsetDateTime.now());
+
+		given(paymentRepository.findReconcileTargets(any(), any(), any(), any(), anyInt())).willReturn(List.of(
+			new PaymentReconcileTarget(readyPaymentId, readyOrderId, null),
+			new PaymentReconcileTarget(paidPaymentId, paidPayment.getOrderId(), "pk-paid")
+		));
+		given(paymentRepository.findByIdWithLock(readyPaymentId)).willReturn(Optional.of(readyPayment));
+		given(paymentRepository.findByIdWithLock(paidPaymentId)).willReturn(Optional.of(paidPayment));
+
+		// when
+		PaymentReconciliationService.ReconcileResult result = reconciliationService.reconcile(OffsetDateTime.now());
+
+		// then
+		assertThat(result.checked()).isEqualTo(2);
+		assertThat(result.corrected()).isEqualTo(2);
+		assertThat(result.failed()).isZero();
+
+		assertThat(readyPayment.getStatus()).isEqualTo(PaymentStatus.PAID);
+		assertThat(readyPayment.getPaymentKey()).isEqualTo("pk-ready");
+		assertThat(paidPayment.getCanceledAmount()).isEqualTo(300L);
+		verify(outboxEventPublisher, times(1)).publish(eq("PAYMENT"), eq(readyPaymentId), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("PG에 결제 건이 없는 READY 주문은 실패로 세지 않고 건너뛴다")
+	void reconcile_SkipsNotFound() {
+		// given
+		given(paymentRepository.findReconcileTargets(any(), any(), any(), any(), anyInt())).willReturn(List.of(
+			new PaymentReconcileTarget(UUID.randomUUID(), UUID.randomUUID(), null)
+		));
+
+		// when
+		PaymentReconciliationService.ReconcileResult result = reconciliationService.reconcile(OffsetDateTime.now());
+
+		// then
+		assertThat(result.checked()).isEqualTo(1);
+		assertThat(result.corrected()).isZero();
+		assertThat(result.failed()).isZero();
+	}
+
+	@Test
+	@DisplayName("초당 조회 수가 0 이하면 설정 바인딩 단계에서 거절한다")
+	void properties_RejectNonPositiveRate() {
+		assertThatThrownBy(() -> new PaymentReconciliationProperties(
+			true, 100, 4, 0, Duration.ofMinutes(30), Duration.ofDays(1)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("rate-per-second");
+	}
+
+	private Payment payment(UUID paymentId, UUID orderId) {
+		Payment payment = new Payment(orderId, 1000L, "toss");
+		ReflectionTestUtils.setField(payment, "paymentId", paymentId);
+		return payment;
+	}
+
+	private void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.groom.e_commerce.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.event.PaymentCompletedEvent;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentStatusSynchronizerTest {
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private OutboxEventPublisher outboxEventPublisher;
+
+	private PaymentStatusSynchronizer synchronizer;
+	private Payment payment;
+
+	@BeforeEach
+	void setUp() {
+		synchronizer = new PaymentStatusSynchronizer(paymentRepository, outboxEventPublisher);
+		payment = new Payment(UUID.randomUUID(), 1000L, "toss");
+		ReflectionTestUtils.setField(payment, "paymentId", UUID.randomUUID());
+	}
+
+	@Test
+	@DisplayName("PG 승인 금액이 결제 금액과 같으면 결제 완료로 반영하고 완료 이벤트를 남긴다")
+	void apply_MarksPaidWhenAmountMatches() {
+		// when
+		boolean changed = synchronizer.apply(payment, toss("DONE", 1000L, List.of()));
+
+		// then
+		assertThat(changed).isTrue();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+		verify(outboxEventPublisher).publish(eq("PAYMENT"), eq(payment.getPaymentId()),
+			eq(PaymentCompletedEvent.TYPE), any());
+	}
+
+	@Test
+	@DisplayName("PG 승인 금액이 결제 금액과 다르면 반영하지 않는다")
+	void apply_SkipsAmountMismatch() {
+		// when
+		boolean changed = synchronizer.apply(payment, toss("DONE", 10L, List.of()));
+
+		// then
+		assertThat(changed).isFalse();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+		verify(outboxEventPublisher, never()).publish(anyString(), any(), anyString(), any());
+		verify(paymentRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("PG 에서 이미 전액 취소된 결제는 결제 완료 이벤트 없이 바로 취소로 보정한다")
+	void apply_CanceledInPgWithoutCompletion() {
+		// given
+		TossPaymentResponse.Cancel cancel =
+			new TossPaymentResponse.Cancel(1000L, "고객 취소", OffsetDateTime.now());
+
+		// when
+		boolean changed = synchronizer.apply(payment, toss("CANCELED", 1000L, List.of(cancel)));
+
+		// then
+		assertThat(changed).isTrue();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+		assertThat(payment.getPaymentKey()).isEqualTo("pk");
+		assertThat(payment.getCanceledAmount()).isEqualTo(1000L);
+		verify(outboxEventPublisher, never()).publish(anyString(), any(), anyString(), any());
+	}
+
+	private TossPaymentResponse toss(String status, Long totalAmount, List<TossPaymentResponse.Cancel> cancels) {
+		return new TossPaymentResponse("pk", payment.getOrderId().toString(), null, null, null, "KRW",
+			totalAmount, status, OffsetDateTime.now(), OffsetDateTime.now(), totalAmount, cancels);
+	}
+}
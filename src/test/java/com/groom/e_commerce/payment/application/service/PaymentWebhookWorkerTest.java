@@ -0,0 +1,164 @@
+package com.groom.e_commerce.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.groom.e_commerce.global.infrastructure.outbox.OutboxEventPublisher;
+import com.groom.e_commerce.payment.application.port.out.TossPaymentPort;
+import com.groom.e_commerce.payment.domain.entity.Payment;
+import com.groom.e_commerce.payment.domain.entity.PaymentWebhookEvent;
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+import com.groom.e_commerce.payment.domain.model.PaymentWebhookStatus;
+import com.groom.e_commerce.payment.domain.repository.PaymentRepository;
+import com.groom.e_commerce.payment.domain.repository.PaymentWebhookEventRepository;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.infrastructure.config.PaymentWebhookProperties;
+import com.groom.e_commerce.payment.presentation.exception.TossApiException;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookWorkerTest {
+
+	@Mock
+	private PaymentWebhookEventRepository paymentWebhookEventRepository;
+
+	@Mock
+	private PaymentRepository paymentRepository;
+
+	@Mock
+	private TossPaymentPort tossPaymentPort;
+
+	@Mock
+	private OutboxEventPublisher outboxEventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PaymentWebhookWorker paymentWebhookWorker;
+
+	private final UUID orderId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		paymentWebhookWorker = new PaymentWebhookWorker(
+			paymentWebhookEventRepository,
+			paymentRepository,
+			tossPaymentPort,
+			new PaymentStatusSynchronizer(paymentRepository, outboxEventPublisher),
+			new PaymentWebhookProperties(true, 100, 4, Duration.ofSeconds(60), 10),
+			transactionManager
+		);
+	}
+
+	@Test
+	@DisplayName("같은 결제의 중복 웹훅은 PG 조회 1번으로 검증해 한 번만 반영한다")
+	void process_DeduplicatesAndApplies() {
+		// given
+		Payment payment = new Payment(orderId, 1000L, "toss");
+		ReflectionTestUtils.setField(payment, "paymentId", UUID.randomUUID());
+		PaymentWebhookEvent first = event("pk");
+		PaymentWebhookEvent duplicate = event("pk");
+
+		given(paymentWebhookEventRepository.findAvailableForUpdate(any(), anyInt()))
+			.willReturn(List.of(first, duplicate));
+		given(paymentWebhookEventRepository.findAllById(anyList())).willReturn(List.of(first, duplicate));
+		given(tossPaymentPort.getPayment("pk")).willReturn(Mono.just(tossPayment("pk", "DONE")));
+		given(paymentRepository.findByPaymentKeyWithLock("pk")).willReturn(Optional.empty());
+		given(paymentRepository.findByOrderId(orderId)).willReturn(Optional.of(payment));
+		given(paymentRepository.findByIdWithLock(payment.getPaymentId())).willReturn(Optional.of(payment));
+
+		// when
+		paymentWebhookWorker.processBatch(paymentWebhookWorker.claimBatch());
+
+		// then
+		verify(tossPaymentPort, times(1)).getPayment("pk");
+		verify(paymentRepository, times(1)).save(payment);
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+		assertThat(first.getStatus()).isEqualTo(PaymentWebhookStatus.PROCESSED);
+		assertThat(duplicate.getStatus()).isEqualTo(PaymentWebhookStatus.PROCESSED);
+	}
+
+	@Test
+	@DisplayName("PG에 없는 paymentKey 웹훅은 반영하지 않고 FAILED 처리한다")
+	void process_RejectsUnknownPaymentKey() {
+		// given
+		PaymentWebhookEvent forged = event("pk-forged");
+		given(paymentWebhookEventRepository.findAllById(anyList())).willReturn(List.of(forged));
+		given(tossPaymentPort.getPayment("pk-forged")).willReturn(Mono.error(
+			new TossApiException(HttpStatus.NOT_FOUND, "TOSS_ERROR", "존재하지 않는 결제", "NOT_FOUND_PAYMENT")));
+
+		// when
+		paymentWebhookWorker.processBatch(List.of(
+			new PaymentWebhookWorker.ClaimedEvent(forged.getWebhookEventId(), "pk-forged")));
+
+		// then
+		assertThat(forged.getStatus()).isEqualTo(PaymentWebhookStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("한 결제의 반영이 실패해도 그 결제의 이벤트만 재시도하고 다른 결제는 반영한다")
+	void process_IsolatesFailurePerPayment() {
+		// given
+		Payment payment = new Payment(orderId, 1000L, "toss");
+		PaymentWebhookEvent ok = event("pk-ok");
+		PaymentWebhookEvent broken = event("pk-broken");
+		Map<UUID, PaymentWebhookEvent> events = Map.of(
+			ok.getWebhookEventId(), ok, broken.getWebhookEventId(), broken);
+
+		given(paymentWebhookEventRepository.findAllById(anyList())).willAnswer(invocation -> {
+			List<UUID> ids = invocation.getArgument(0);
+			return ids.stream().map(events::get).toList();
+		});
+		given(tossPaymentPort.getPayment("pk-ok")).willReturn(Mono.just(tossPayment("pk-ok", "DONE")));
+		given(tossPaymentPort.getPayment("pk-broken")).willReturn(Mono.just(tossPayment("pk-broken", "DONE")));
+		given(paymentRepository.findByPaymentKeyWithLock("pk-ok")).willReturn(Optional.of(payment));
+		given(paymentRepository.findByPaymentKeyWithLock("pk-broken"))
+			.willThrow(new IllegalStateException("lock timeout"));
+
+		// when
+		paymentWebhookWorker.processBatch(List.of(
+			new PaymentWebhookWorker.ClaimedEvent(ok.getWebhookEventId(), "pk-ok"),
+			new PaymentWebhookWorker.ClaimedEvent(broken.getWebhookEventId(), "pk-broken")));
+
+		// then
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+		assertThat(ok.getStatus()).isEqualTo(PaymentWebhookStatus.PROCESSED);
+		assertThat(ok.getAttempts()).isZero();
+		assertThat(broken.getStatus()).isEqualTo(PaymentWebhookStatus.PENDING);
+		assertThat(broken.getAttempts()).isEqualTo(1);
+	}
+
+	private PaymentWebhookEvent event(String paymentKey) {
+		PaymentWebhookEvent event = new PaymentWebhookEvent("PAYMENT_STATUS_CHANGED", paymentKey, "{}");
+		ReflectionTestUtils.setField(event, "webhookEventId", UUID.randomUUID());
+		return event;
+	}
+
+	private TossPaymentResponse tossPayment(String paymentKey, String status) {
+		return new TossPaymentResponse(paymentKey, orderId.toString(), null, null, null, "KRW", 1000L, status,
+			OffsetDateTime.now(), OffsetDateTime.now(), 1000L, List.of());
+	}
+}
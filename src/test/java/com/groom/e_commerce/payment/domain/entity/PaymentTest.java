@@ -0,0 +1,61 @@
+package com.groom.e_commerce.payment.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.groom.e_commerce.payment.domain.model.PaymentStatus;
+
+class PaymentTest {
+
+	@Nested
+	@DisplayName("addCancel")
+	class AddCancelTest {
+
+		@Test
+		@DisplayName("부분 취소는 누적 취소 금액만 늘리고 상태는 유지한다")
+		void partialCancel_accumulates() {
+			// given
+			Payment payment = paidPayment(10000L);
+
+			// when
+			payment.addCancel(cancel(3000L));
+			payment.addCancel(cancel(2000L));
+
+			// then
+			assertThat(payment.getCanceledAmount()).isEqualTo(5000L);
+			assertThat(payment.getRemainingAmount()).isEqualTo(5000L);
+			assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+		}
+
+		@Test
+		@DisplayName("누적 취소 금액이 결제 금액에 도달하면 CANCELLED가 된다")
+		void fullCancel_cancelled() {
+			// given
+			Payment payment = paidPayment(10000L);
+			payment.addCancel(cancel(4000L));
+
+			// when
+			payment.addCancel(cancel(6000L));
+
+			// then
+			assertThat(payment.getCanceledAmount()).isEqualTo(10000L);
+			assertThat(payment.isAlreadyCancelled()).isTrue();
+		}
+
+		private Payment paidPayment(long amount) {
+			Payment payment = new Payment(UUID.randomUUID(), amount, "toss");
+			payment.markPaid("pk", OffsetDateTime.now());
+			return payment;
+		}
+
+		private PaymentCancel cancel(long amount) {
+			return new PaymentCancel("pk", amount, "부분 취소", OffsetDateTime.now());
+		}
+	}
+}
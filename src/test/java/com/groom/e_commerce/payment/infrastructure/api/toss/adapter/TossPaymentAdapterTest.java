@@ -0,0 +1,127 @@
+package com.groom.e_commerce.payment.infrastructure.api.toss.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.groom.e_commerce.payment.infrastructure.api.toss.client.TossPaymentsClient;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.request.TossConfirmRequest;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.groom.e_commerce.payment.infrastructure.api.toss.resilience.TossFailurePredicate;
+import com.groom.e_commerce.payment.presentation.exception.PaymentException;
+import com.groom.e_commerce.payment.presentation.exception.TossApiException;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class TossPaymentAdapterTest {
+
+	@Mock
+	private TossPaymentsClient tossPaymentsClient;
+
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private TossPaymentAdapter tossPaymentAdapter;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+			.maxAttempts(3)
+			.waitDuration(Duration.ofMillis(10))
+			.retryOnException(new TossFailurePredicate())
+			.build());
+
+		tossPaymentAdapter = new TossPaymentAdapter(
+			tossPaymentsClient,
+			circuitBreakerRegistry,
+			BulkheadRegistry.ofDefaults(),
+			retryRegistry
+		);
+	}
+
+	@Test
+	@DisplayName("서킷이 열려 있으면 PG를 호출하지 않고 즉시 PG_UNAVAILABLE로 실패한다")
+	void confirm_FailsFastWhenOpen() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+		given(tossPaymentsClient.confirm(any(), anyString())).willReturn(
+			Mono.fromCallable(() -> {
+				calls.incrementAndGet();
+				return tossPayment();
+			}));
+		circuitBreakerRegistry.circuitBreaker(TossPaymentAdapter.CONFIRM).transitionToOpenState();
+
+		// when & then
+		TossConfirmRequest request = new TossConfirmRequest("pk", "order", 1000L);
+		assertThatThrownBy(() -> tossPaymentAdapter.confirm(request, "confirm:order").block())
+			.isInstanceOf(PaymentException.class)
+			.satisfies(ex -> {
+				PaymentException pe = (PaymentException)ex;
+				assertThat(pe.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+				assertThat(pe.getCode()).isEqualTo("PG_UNAVAILABLE");
+			});
+		assertThat(calls).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("조회는 PG 5xx에 재시도한다")
+	void getPayment_RetriesOnServerError() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+		given(tossPaymentsClient.getPayment("pk")).willReturn(Mono.defer(() -> calls.incrementAndGet() < 3
+			? Mono.error(serverError())
+			: Mono.just(tossPayment())));
+
+		// when
+		TossPaymentResponse response = tossPaymentAdapter.getPayment("pk").block(Duration.ofSeconds(5));
+
+		// then
+		assertThat(response.paymentKey()).isEqualTo("pk");
+		assertThat(calls).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("승인은 PG 5xx가 나도 재시도하지 않는다")
+	void confirm_NotRetried() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+		given(tossPaymentsClient.confirm(any(), anyString())).willReturn(Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(serverError());
+		}));
+
+		// when & then
+		TossConfirmRequest request = new TossConfirmRequest("pk", "order", 1000L);
+		assertThatThrownBy(() -> tossPaymentAdapter.confirm(request, "confirm:order").block())
+			.isInstanceOf(TossApiException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	private TossApiException serverError() {
+		return new TossApiException(HttpStatus.SERVICE_UNAVAILABLE, "TOSS_ERROR", "일시적 오류", "FAILED_INTERNAL");
+	}
+
+	private TossPaymentResponse tossPayment() {
+		return new TossPaymentResponse("pk", "order", null, null, null, "KRW", 1000L, "DONE",
+			OffsetDateTime.now(), OffsetDateTime.now(), 1000L, List.of());
+	}
+}
@@ -0,0 +1,101 @@
+package com.groom.e_commerce.payment.infrastructure.api.toss.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.request.TossConfirmRequest;
+import com.groom.e_commerce.payment.infrastructure.api.toss.dto.response.TossPaymentResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 지연이 있는 로컬 스텁 PG를 띄워 논블로킹 동작을 확인한다.
+ */
+class TossPaymentsClientTest {
+
+	private static final long PG_LATENCY_MS = 2000;
+	private static final int CONCURRENT_REQUESTS = 16;
+
+	private HttpServer stubPg;
+	private ExecutorService stubExecutor;
+	private TossPaymentsClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubExecutor = Executors.newCachedThreadPool();
+		stubPg = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		stubPg.setExecutor(stubExecutor);
+		stubPg.createContext("/v1/payments/confirm", exchange -> {
+			try {
+				Thread.sleep(PG_LATENCY_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = """
+				{"paymentKey":"pk","orderId":"order","totalAmount":1000,"status":"DONE"}
+				""".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		stubPg.start();
+
+		WebClient webClient = WebClient.create("http://localhost:" + stubPg.getAddress().getPort());
+		client = new TossPaymentsClient(webClient, "test_sk");
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubPg.stop(0);
+		stubExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("구독 전에는 호출 스레드를 붙잡지 않는다")
+	void confirm_IsLazy() {
+		// when
+		long start = System.nanoTime();
+		TossConfirmRequest request = new TossConfirmRequest("pk", "order", 1000L);
+		Mono<TossPaymentResponse> response = client.confirm(request, "confirm:order");
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+		// then
+		assertThat(elapsedMs).isLessThan(PG_LATENCY_MS);
+		assertThat(response.block().paymentKey()).isEqualTo("pk");
+	}
+
+	@Test
+	@DisplayName("PG가 느려도 동시 요청은 스레드 수와 무관하게 한 번의 지연 안에 끝난다")
+	void confirm_ConcurrentUnderLatency() {
+		// when
+		long start = System.nanoTime();
+		List<TossPaymentResponse> responses = Flux.fromStream(IntStream.range(0, CONCURRENT_REQUESTS).boxed())
+			.flatMap(i -> client.confirm(new TossConfirmRequest("pk", "order-" + i, 1000L), "confirm:order-" + i))
+			.collectList()
+			.block(Duration.ofSeconds(30));
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+		// then
+		assertThat(responses).hasSize(CONCURRENT_REQUESTS);
+		assertThat(elapsedMs).isLessThan(PG_LATENCY_MS * 2);
+	}
+}
@@ -2,7 +2,12 @@ package com.groom.e_commerce.product.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,14 +19,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.event.CategoryMovedEvent;
 import com.groom.e_commerce.product.domain.repository.CategoryRepository;
 import com.groom.e_commerce.product.presentation.dto.response.ResCategoryDtoV1;
 
@@ -31,6 +39,9 @@ class CategoryServiceTest {
 	@Mock
 	private CategoryRepository categoryRepository;
 
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	@InjectMocks
 	private CategoryServiceV1 categoryService;
 
@@ -237,4 +248,118 @@ class CategoryServiceTest {
 				});
 		}
 	}
+
+	@Nested
+	@DisplayName("createCategory")
+	class CreateCategoryTest {
+
+		@Test
+		@DisplayName("부모 경로 뒤에 자신의 id를 붙인 경로를 갖는다")
+		void createCategory_assignsPath() {
+			// given
+			rootCategory.assignPath();
+			UUID newId = UUID.randomUUID();
+			given(categoryRepository.findByIdAndIsActiveTrue(rootCategoryId))
+				.willReturn(Optional.of(rootCategory));
+			given(categoryRepository.save(any(Category.class))).willAnswer(invocation -> {
+				Category saved = invocation.getArgument(0);
+				ReflectionTestUtils.setField(saved, "id", newId);
+				return saved;
+			});
+
+			// when
+			ResCategoryDtoV1 result = categoryService.createCategory(rootCategoryId, "하의", 2);
+
+			// then
+			assertThat(result.getDepth()).isEqualTo(2);
+			ArgumentCaptor<Category> captor = ArgumentCaptor.forClass(Category.class);
+			verify(categoryRepository).save(captor.capture());
+			assertThat(captor.getValue().getPath()).isEqualTo("/" + rootCategoryId + "/" + newId + "/");
+		}
+
+		@Test
+		@DisplayName("부모 경로가 아직 채워지지 않았으면 생성할 수 없다")
+		void createCategory_rejectsBeforeParentPathBackfill() {
+			// given: 부모 경로 백필 전
+			given(categoryRepository.findByIdAndIsActiveTrue(rootCategoryId))
+				.willReturn(Optional.of(rootCategory));
+
+			// when & then
+			assertThatThrownBy(() -> categoryService.createCategory(rootCategoryId, "하의", 2))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+				});
+			verify(categoryRepository, never()).save(any(Category.class));
+		}
+	}
+
+	@Nested
+	@DisplayName("moveCategory")
+	class MoveCategoryTest {
+
+		@Test
+		@DisplayName("이동하면 하위 카테고리의 경로 접두어와 깊이를 한 번에 바꾼다")
+		void moveCategory_movesSubtree() {
+			// given
+			rootCategory.assignPath();
+			childCategory.assignPath();
+			Category newRoot = Category.builder().name("잡화").depth(1).sortOrder(2).build();
+			UUID newRootId = UUID.randomUUID();
+			ReflectionTestUtils.setField(newRoot, "id", newRootId);
+			newRoot.assignPath();
+			String oldPath = childCategory.getPath();
+
+			given(categoryRepository.findByIdAndIsActiveTrue(childCategoryId)).willReturn(Optional.of(childCategory));
+			given(categoryRepository.findByIdAndIsActiveTrue(newRootId)).willReturn(Optional.of(newRoot));
+
+			// when
+			categoryService.moveCategory(childCategoryId, newRootId);
+
+			// then
+			String newPath = "/" + newRootId + "/" + childCategoryId + "/";
+			assertThat(childCategory.getPath()).isEqualTo(newPath);
+			assertThat(childCategory.getParent()).isEqualTo(newRoot);
+			verify(categoryRepository).moveDescendants(oldPath, oldPath + "%", newPath, 0);
+			verify(applicationEventPublisher).publishEvent(new CategoryMovedEvent(childCategoryId, newPath));
+		}
+
+		@Test
+		@DisplayName("경로가 아직 채워지지 않은 카테고리는 순환 여부를 알 수 없으므로 이동할 수 없다")
+		void moveCategory_rejectsBeforePathBackfill() {
+			// given: 경로 백필 전
+			given(categoryRepository.findByIdAndIsActiveTrue(rootCategoryId)).willReturn(Optional.of(rootCategory));
+			given(categoryRepository.findByIdAndIsActiveTrue(childCategoryId)).willReturn(Optional.of(childCategory));
+
+			// when & then
+			assertThatThrownBy(() -> categoryService.moveCategory(rootCategoryId, childCategoryId))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+				});
+			verify(categoryRepository, never()).moveDescendants(anyString(), anyString(), anyString(), anyInt());
+			verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+		}
+
+		@Test
+		@DisplayName("자신의 하위 카테고리 밑으로는 이동할 수 없다")
+		void moveCategory_rejectsCycle() {
+			// given
+			rootCategory.assignPath();
+			childCategory.assignPath();
+			given(categoryRepository.findByIdAndIsActiveTrue(rootCategoryId)).willReturn(Optional.of(rootCategory));
+			given(categoryRepository.findByIdAndIsActiveTrue(childCategoryId)).willReturn(Optional.of(childCategory));
+
+			// when & then
+			assertThatThrownBy(() -> categoryService.moveCategory(rootCategoryId, childCategoryId))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+				});
+			verify(categoryRepository, never()).moveDescendants(anyString(), anyString(), anyString(), anyInt());
+		}
+	}
 }
@@ -0,0 +1,92 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.global.presentation.dto.CursorPage;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductQueryRepository productQueryRepository;
+
+	@InjectMocks
+	private ProductSearchServiceV1 productSearchService;
+
+	@Test
+	@DisplayName("검색어는 공백을 정리하고, 정렬 없이 관련도순 쿼리로 조회한다")
+	void search_NormalizesKeyword() {
+		// given
+		given(productRepository.searchByKeyword(eq("러닝 운동화"), eq("%러닝 운동화%"), any()))
+			.willReturn(new PageImpl<>(List.of()));
+
+		// when
+		Page<ResProductSearchDtoV1> result = productSearchService.search(
+			"  러닝   운동화 ", PageRequest.of(0, 20, Sort.by("price")));
+
+		// then
+		assertThat(result.getContent()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("목록은 판매중 상품만, 페이지 크기는 최대 100으로 커서 조회한다")
+	void browse_ClampsSizeAndFiltersOnSale() {
+		// given
+		given(productQueryRepository.searchProductsByCursor(
+			isNull(), isNull(), isNull(), isNull(), eq(ProductStatus.ON_SALE), eq("cursor"), eq(100), eq(false)))
+			.willReturn(new CursorPage<>(List.of(), null, false, null));
+
+		// when
+		CursorPage<ResProductSearchDtoV1> result = productSearchService.browse(
+			" ", null, null, null, "cursor", 1_000, false);
+
+		// then
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.totalCount()).isNull();
+	}
+
+	@Test
+	@DisplayName("LIKE 특수문자는 문자 그대로 찾도록 이스케이프한다")
+	void toLikePattern_EscapesWildcards() {
+		assertThat(ProductSearchServiceV1.toLikePattern("100%_Cotton"))
+			.isEqualTo("%100\\%\\_cotton%");
+	}
+
+	@Test
+	@DisplayName("빈 검색어는 VALIDATION_ERROR")
+	void search_RejectsBlankKeyword() {
+		assertThatThrownBy(() -> productSearchService.search(" ", PageRequest.of(0, 20)))
+			.isInstanceOf(CustomException.class)
+			.satisfies(ex -> {
+				CustomException ce = (CustomException)ex;
+				assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+			});
+	}
+}
@@ -0,0 +1,201 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.service.StockServiceV1.StockItem;
+import com.groom.e_commerce.product.domain.event.ProductChangedEvent;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.repository.ProductVariantRepository;
+import com.groom.e_commerce.product.domain.repository.StockReleaseRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductVariantRepository productVariantRepository;
+
+	@Mock
+	private StockReleaseRepository stockReleaseRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@InjectMocks
+	private StockServiceV1 stockService;
+
+	private final UUID productId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+	private final UUID lowVariantId = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+	private final UUID highVariantId = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+	@Nested
+	@DisplayName("reserve()")
+	class Reserve {
+
+		@Test
+		@DisplayName("같은 SKU는 합산하고 SKU ID 순서로 차감한다")
+		void reserve_MergesAndSorts() {
+			// given
+			given(productVariantRepository.decreaseStockIfAvailable(any(), anyInt())).willReturn(1);
+
+			// when
+			stockService.reserve(List.of(
+				new StockItem(productId, highVariantId, 1),
+				new StockItem(productId, lowVariantId, 2),
+				new StockItem(productId, highVariantId, 3)
+			));
+
+			// then
+			InOrder order = inOrder(productVariantRepository);
+			order.verify(productVariantRepository).decreaseStockIfAvailable(lowVariantId, 2);
+			order.verify(productVariantRepository).decreaseStockIfAvailable(highVariantId, 4);
+		}
+
+		@Test
+		@DisplayName("옵션 없는 상품은 상품 재고를 차감한다")
+		void reserve_WithoutVariant() {
+			// given
+			given(productRepository.decreaseStockIfAvailable(productId, 1)).willReturn(1);
+
+			// when
+			stockService.reserve(List.of(new StockItem(productId, null, 1)));
+
+			// then
+			verify(productRepository).decreaseStockIfAvailable(productId, 1);
+			verify(productVariantRepository, never()).decreaseStockIfAvailable(any(), anyInt());
+			// 재고만 줄고 상태는 그대로라 검색 색인에 알리지 않는다.
+			verify(productRepository, never()).sellOutIfExactlyAvailable(any(), anyInt());
+			verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+		}
+
+		@Test
+		@DisplayName("남은 재고를 모두 사서 품절되면 검색 색인에 알린다")
+		void reserve_SoldOutPublishes() {
+			// given
+			given(productRepository.decreaseStockIfAvailable(productId, 3)).willReturn(0);
+			given(productRepository.sellOutIfExactlyAvailable(productId, 3)).willReturn(1);
+
+			// when
+			stockService.reserve(List.of(new StockItem(productId, null, 3)));
+
+			// then
+			verify(applicationEventPublisher).publishEvent(new ProductChangedEvent(productId));
+		}
+
+		@Test
+		@DisplayName("조건부 차감이 실패하면 재고 부족 예외가 발생한다")
+		void reserve_NotEnough() {
+			// given
+			given(productVariantRepository.decreaseStockIfAvailable(lowVariantId, 5)).willReturn(0);
+
+			// when & then
+			assertThatThrownBy(() -> stockService.reserve(List.of(new StockItem(productId, lowVariantId, 5))))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.STOCK_NOT_ENOUGH);
+				});
+		}
+
+		@Test
+		@DisplayName("수량이 0 이하면 예외가 발생한다")
+		void reserve_InvalidQuantity() {
+			assertThatThrownBy(() -> stockService.reserve(List.of(new StockItem(productId, lowVariantId, 0))))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName("release()")
+	class Release {
+
+		@Test
+		@DisplayName("SKU별로 재고를 복구한다")
+		void release_Success() {
+			// given
+			given(productVariantRepository.increaseStock(lowVariantId, 2)).willReturn(1);
+
+			// when
+			stockService.release(List.of(new StockItem(productId, lowVariantId, 2)));
+
+			// then
+			verify(productVariantRepository).increaseStock(lowVariantId, 2);
+		}
+
+		@Test
+		@DisplayName("품절이던 상품만 판매중으로 되돌리고 검색 색인에 알린다")
+		void release_RestocksSoldOut() {
+			// given
+			given(productRepository.increaseStock(productId, 2)).willReturn(0);
+			given(productRepository.restockSoldOut(productId, 2)).willReturn(1);
+
+			// when
+			stockService.release(List.of(new StockItem(productId, null, 2)));
+
+			// then
+			verify(applicationEventPublisher).publishEvent(new ProductChangedEvent(productId));
+		}
+	}
+
+	@Nested
+	@DisplayName("releaseForOrder()")
+	class ReleaseForOrder {
+
+		private final UUID orderId = UUID.fromString("00000000-0000-0000-0000-0000000000f1");
+
+		@Test
+		@DisplayName("처음 복구하는 주문이면 재고를 복구한다")
+		void releaseForOrder_First() {
+			// given
+			given(stockReleaseRepository.markReleased(orderId)).willReturn(1);
+			given(productVariantRepository.increaseStock(lowVariantId, 2)).willReturn(1);
+
+			// when
+			stockService.releaseForOrder(orderId, List.of(new StockItem(productId, lowVariantId, 2)));
+
+			// then
+			verify(productVariantRepository).increaseStock(lowVariantId, 2);
+		}
+
+		@Test
+		@DisplayName("이미 복구한 주문이면 재고를 다시 늘리지 않는다")
+		void releaseForOrder_AlreadyReleased() {
+			// given
+			given(stockReleaseRepository.markReleased(orderId)).willReturn(0);
+
+			// when
+			stockService.releaseForOrder(orderId, List.of(new StockItem(productId, lowVariantId, 2)));
+
+			// then
+			verify(productVariantRepository, never()).increaseStock(any(), anyInt());
+		}
+	}
+}
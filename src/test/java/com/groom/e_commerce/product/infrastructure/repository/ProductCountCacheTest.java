@@ -0,0 +1,105 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.repository.ProductCountCache.CountKey;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountCacheTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	private ProductCountCache productCountCache;
+
+	@BeforeEach
+	void setUp() {
+		productCountCache = new ProductCountCache(productRepository, Duration.ofMinutes(1), 100L, true);
+	}
+
+	@Test
+	@DisplayName("정규화하면 같은 조건은 TTL 동안 한 번만 센다")
+	void count_CachesByNormalizedFilter() {
+		// given
+		UUID categoryId = UUID.randomUUID();
+		AtomicInteger exactCounts = new AtomicInteger();
+		CountKey first = CountKey.of("search", null, " Running  Shoes ", categoryId,
+			new BigDecimal("1000.00"), null, ProductStatus.ON_SALE);
+		CountKey second = CountKey.of("search", null, "running shoes", categoryId,
+			new BigDecimal("1000"), null, ProductStatus.ON_SALE);
+
+		LongSupplier exact = () -> {
+			exactCounts.incrementAndGet();
+			return 42L;
+		};
+
+		// when
+		long a = productCountCache.count(first, exact);
+		long b = productCountCache.count(second, exact);
+
+		// then
+		assertThat(first).isEqualTo(second);
+		assertThat(a).isEqualTo(42L);
+		assertThat(b).isEqualTo(42L);
+		assertThat(exactCounts).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("조건 없는 전체 목록은 통계 추정치를 쓴다")
+	void count_EstimatesUnfiltered() {
+		// given
+		given(productRepository.estimateCount()).willReturn(1_000_000L);
+		AtomicInteger exactCounts = new AtomicInteger();
+
+		// when
+		long count = productCountCache.count(CountKey.of("manager", null, null, null, null, null, null),
+			() -> exactCounts.incrementAndGet());
+
+		// then
+		assertThat(count).isEqualTo(1_000_000L);
+		assertThat(exactCounts).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("통계가 아직 없으면 실제로 센다")
+	void count_FallsBackWithoutStatistics() {
+		// given
+		given(productRepository.estimateCount()).willReturn(0L);
+
+		// when
+		long count = productCountCache.count(CountKey.of("manager", null, null, null, null, null, null), () -> 7L);
+
+		// then
+		assertThat(count).isEqualTo(7L);
+	}
+
+	@Test
+	@DisplayName("조건이 있으면 추정치를 쓰지 않는다")
+	void count_ExactWhenFiltered() {
+		// when
+		long count = productCountCache.count(
+			CountKey.of("manager", null, null, null, null, null, ProductStatus.ON_SALE), () -> 3L);
+
+		// then
+		assertThat(count).isEqualTo(3L);
+		verify(productRepository, never()).estimateCount();
+	}
+}
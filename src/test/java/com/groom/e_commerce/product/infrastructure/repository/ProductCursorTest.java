@@ -0,0 +1,47 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
+class ProductCursorTest {
+
+	@Test
+	@DisplayName("인코딩한 커서는 같은 (created_at, product_id)로 복원된다")
+	void encode_RoundTrip() {
+		// given
+		ProductCursor cursor = new ProductCursor(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_000), UUID.randomUUID());
+
+		// when
+		ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지(null)")
+	void decode_BlankIsFirstPage() {
+		assertThat(ProductCursor.decode(null)).isNull();
+		assertThat(ProductCursor.decode("")).isNull();
+	}
+
+	@Test
+	@DisplayName("변조된 커서는 VALIDATION_ERROR")
+	void decode_RejectsGarbage() {
+		assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor"))
+			.isInstanceOf(CustomException.class)
+			.satisfies(ex -> {
+				CustomException ce = (CustomException)ex;
+				assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+			});
+	}
+}
@@ -0,0 +1,142 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+class InvertedIndexTest {
+
+	private final UUID shoes = UUID.randomUUID();
+	private final UUID running = UUID.randomUUID();
+	private final UUID tops = UUID.randomUUID();
+
+	private InvertedIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InvertedIndex();
+	}
+
+	@Test
+	@DisplayName("부분 단어로 찾고, 최근 등록순으로 반환한다")
+	void search_SubstringNewestFirst() {
+		// given
+		ProductDocument older = document("러닝운동화 블루", running, 50_000, ProductStatus.ON_SALE);
+		ProductDocument newer = document("운동화 화이트", shoes, 30_000, ProductStatus.ON_SALE);
+		index.upsert(older);
+		index.upsert(newer);
+		index.upsert(document("반팔 티셔츠", tops, 10_000, ProductStatus.ON_SALE));
+
+		// when
+		ProductSearchHits hits = search("운동화");
+
+		// then
+		assertThat(hits.total()).isEqualTo(2);
+		assertThat(hits.productIds()).containsExactly(newer.productId(), older.productId());
+	}
+
+	@Test
+	@DisplayName("상위 카테고리, 가격, 상태 조건으로 거른다")
+	void search_Facets() {
+		// given
+		ProductDocument cheap = document("운동화 A", running, 20_000, ProductStatus.ON_SALE);
+		index.upsert(cheap);
+		index.upsert(document("운동화 B", running, 90_000, ProductStatus.ON_SALE));
+		index.upsert(document("운동화 C", running, 20_000, ProductStatus.SOLD_OUT));
+
+		// when
+		ProductSearchQuery query = new ProductSearchQuery(
+			"운동화", shoes, null, BigDecimal.valueOf(50_000), ProductStatus.ON_SALE, 0, 20);
+		ProductSearchHits hits = index.search(NgramTokenizer.tokenize("운동화"), query);
+
+		// then
+		assertThat(hits.productIds()).containsExactly(cheap.productId());
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 찾지 않고, 목록 순서는 유지한다")
+	void upsert_ReplacesWithoutReordering() {
+		// given
+		ProductDocument first = document("운동화", shoes, 10_000, ProductStatus.ON_SALE);
+		ProductDocument second = document("운동화 신상", shoes, 10_000, ProductStatus.ON_SALE);
+		index.upsert(first);
+		index.upsert(second);
+
+		// when
+		index.upsert(new ProductDocument(first.productId(), first.categoryIds(), first.categoryPath(),
+			"운동화 리뉴얼", null, first.price(), first.status(), first.updatedAt().plusSeconds(1)));
+
+		// then
+		assertThat(search("리뉴얼").productIds()).containsExactly(first.productId());
+		assertThat(search("운동화").productIds()).containsExactly(second.productId(), first.productId());
+	}
+
+	@Test
+	@DisplayName("삭제된 상품은 검색되지 않는다")
+	void remove_HidesProduct() {
+		// given
+		ProductDocument document = document("운동화", shoes, 10_000, ProductStatus.ON_SALE);
+		index.upsert(document);
+
+		// when
+		index.remove(document.productId());
+
+		// then
+		assertThat(search("운동화").total()).isZero();
+	}
+
+	@Test
+	@DisplayName("늦게 도착한 예전 스냅샷은 최신 문서를 덮어쓰지 않는다")
+	void upsert_IgnoresOlderSnapshot() {
+		// given
+		ProductDocument onSale = document("운동화", shoes, 10_000, ProductStatus.ON_SALE);
+		ProductDocument staleSoldOut = new ProductDocument(onSale.productId(), onSale.categoryIds(),
+			onSale.categoryPath(), onSale.title(), null, onSale.price(), ProductStatus.SOLD_OUT,
+			onSale.updatedAt().minusSeconds(1));
+		index.upsert(onSale);
+
+		// when
+		boolean applied = index.upsert(staleSoldOut);
+
+		// then
+		assertThat(applied).isFalse();
+		ProductSearchQuery query = new ProductSearchQuery("운동화", null, null, null, ProductStatus.ON_SALE, 0, 20);
+		assertThat(index.search(NgramTokenizer.tokenize("운동화"), query).productIds())
+			.containsExactly(onSale.productId());
+	}
+
+	@Test
+	@DisplayName("삭제된 상품의 문서가 늦게 도착해도 다시 살아나지 않는다")
+	void upsert_IgnoresRemovedProduct() {
+		// given
+		ProductDocument document = document("운동화", shoes, 10_000, ProductStatus.ON_SALE);
+		index.upsert(document);
+		index.remove(document.productId());
+
+		// when
+		index.upsert(document);
+
+		// then
+		assertThat(search("운동화").total()).isZero();
+	}
+
+	private ProductSearchHits search(String keyword) {
+		ProductSearchQuery query = new ProductSearchQuery(keyword, null, null, null, null, 0, 20);
+		return index.search(NgramTokenizer.tokenize(keyword), query);
+	}
+
+	private ProductDocument document(String title, UUID categoryId, long price, ProductStatus status) {
+		List<UUID> categoryIds = categoryId.equals(running) ? List.of(running, shoes) : List.of(categoryId);
+		return new ProductDocument(UUID.randomUUID(), categoryIds, "신발", title, null,
+			BigDecimal.valueOf(price), status, LocalDateTime.now());
+	}
+}
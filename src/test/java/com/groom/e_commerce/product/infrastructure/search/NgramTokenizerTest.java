@@ -0,0 +1,36 @@
+package com.groom.e_commerce.product.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramTokenizerTest {
+
+	@Test
+	@DisplayName("한국어 단어는 음절 2-gram 으로 자른다")
+	void tokenize_KoreanBigrams() {
+		assertThat(NgramTokenizer.tokenize("러닝운동화"))
+			.containsExactly("러닝", "닝운", "운동", "동화");
+	}
+
+	@Test
+	@DisplayName("영문은 소문자로 맞추고, 구두점/공백은 단어 구분자로 본다")
+	void tokenize_LowercasesAndSplits() {
+		assertThat(NgramTokenizer.tokenize("Slim-Fit 청바지"))
+			.containsExactly("sl", "li", "im", "fi", "it", "청바", "바지");
+	}
+
+	@Test
+	@DisplayName("두 글자 이하 단어는 그대로 토큰이 된다")
+	void tokenize_ShortWords() {
+		assertThat(NgramTokenizer.tokenize("새 상품 a")).containsExactly("새", "상품", "a");
+	}
+
+	@Test
+	@DisplayName("null 이나 구분자만 있으면 토큰이 없다")
+	void tokenize_Empty() {
+		assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+		assertThat(NgramTokenizer.tokenize(" - ")).isEmpty();
+	}
+}
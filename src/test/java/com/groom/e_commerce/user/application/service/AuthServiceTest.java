@@ -0,0 +1,48 @@
+package com.groom.e_commerce.user.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.user.domain.entity.UserEntity;
+
+class AuthServiceTest {
+
+	@Nested
+	@DisplayName("duplicateError()")
+	class DuplicateError {
+
+		@Test
+		@DisplayName("위반된 유니크 제약 이름으로 이메일/닉네임 중복을 구분한다")
+		void mapsByConstraintName() {
+			assertThat(AuthServiceV1.duplicateError(violation(UserEntity.UK_EMAIL)))
+				.contains(ErrorCode.EMAIL_DUPLICATED);
+			assertThat(AuthServiceV1.duplicateError(violation(UserEntity.UK_NICKNAME)))
+				.contains(ErrorCode.NICKNAME_DUPLICATED);
+		}
+
+		@Test
+		@DisplayName("메시지에 nickname 이 들어 있어도 다른 제약이면 중복으로 보지 않는다")
+		void ignoresOtherConstraints() {
+			// given
+			DataIntegrityViolationException e = violation("fk_seller_nickname_user");
+
+			// when & then
+			assertThat(AuthServiceV1.duplicateError(e)).isEmpty();
+		}
+
+		private DataIntegrityViolationException violation(String constraintName) {
+			ConstraintViolationException cause = new ConstraintViolationException(
+				"duplicate key value violates unique constraint \"" + constraintName + "\" (nickname)",
+				new SQLException("duplicate key", "23505"), constraintName);
+			return new DataIntegrityViolationException("could not execute statement", cause);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.groom.e_commerce.user.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.groom.e_commerce.global.infrastructure.config.security.JwtClaims;
+import com.groom.e_commerce.global.infrastructure.config.security.JwtUtil;
+import com.groom.e_commerce.global.infrastructure.config.security.RevokedSessionRegistry;
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.user.domain.entity.RefreshTokenEntity;
+import com.groom.e_commerce.user.domain.entity.UserEntity;
+import com.groom.e_commerce.user.domain.entity.UserRole;
+import com.groom.e_commerce.user.domain.repository.RefreshTokenRepository;
+import com.groom.e_commerce.user.domain.repository.UserRepository;
+import com.groom.e_commerce.user.presentation.dto.response.ResTokenDtoV1;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+	private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	private JwtUtil jwtUtil;
+	private RevokedSessionRegistry revokedSessionRegistry;
+	private RefreshTokenService refreshTokenService;
+
+	// save() 로 들어온 토큰을 jti 로 다시 찾을 수 있게 보관
+	private final Map<UUID, RefreshTokenEntity> store = new HashMap<>();
+	private UserEntity user;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(SECRET, 3_600_000L, 604_800_000L, 100L);
+		jwtUtil.init();
+		revokedSessionRegistry = new RevokedSessionRegistry(3_600_000L, 1_000L);
+		refreshTokenService = new RefreshTokenService(
+			refreshTokenRepository, userRepository, jwtUtil, revokedSessionRegistry, 3_600_000L);
+
+		user = UserEntity.builder()
+			.userId(UUID.randomUUID())
+			.email("user@groom.com")
+			.password("encoded")
+			.nickname("groom")
+			.phoneNumber("010-0000-0000")
+			.role(UserRole.USER)
+			.build();
+
+		given(refreshTokenRepository.save(any())).willAnswer(invocation -> {
+			RefreshTokenEntity token = invocation.getArgument(0);
+			ReflectionTestUtils.setField(token, "tokenId", UUID.randomUUID());
+			store.put(token.getTokenId(), token);
+			return token;
+		});
+	}
+
+	@Nested
+	@DisplayName("rotate()")
+	class RotateTest {
+
+		@Test
+		@DisplayName("회전하면 같은 세션으로 새 토큰이 발급되고 이전 토큰은 ROTATED 가 된다")
+		void rotate_IssuesNewTokenInSameSession() {
+			// given
+			ResTokenDtoV1 login = refreshTokenService.issue(user);
+			JwtClaims loginClaims = jwtUtil.parseRefreshToken(login.getRefreshToken());
+			stubLookup();
+			given(userRepository.findByUserIdAndDeletedAtIsNull(user.getUserId())).willReturn(Optional.of(user));
+
+			// when
+			ResTokenDtoV1 rotated = refreshTokenService.rotate(login.getRefreshToken());
+
+			// then
+			JwtClaims rotatedClaims = jwtUtil.parseRefreshToken(rotated.getRefreshToken());
+			assertThat(rotatedClaims.sessionId()).isEqualTo(loginClaims.sessionId());
+			assertThat(rotatedClaims.tokenId()).isNotEqualTo(loginClaims.tokenId());
+			assertThat(store.get(loginClaims.tokenId()).isActive()).isFalse();
+			assertThat(jwtUtil.parse(rotated.getAccessToken()).sessionId()).isEqualTo(loginClaims.sessionId());
+		}
+
+		@Test
+		@DisplayName("이미 회전된 토큰이 다시 오면 세션 전체를 폐기하고 access token 도 차단한다")
+		void rotate_ReuseRevokesFamily() {
+			// given
+			ResTokenDtoV1 login = refreshTokenService.issue(user);
+			UUID sessionId = jwtUtil.parseRefreshToken(login.getRefreshToken()).sessionId();
+			stubLookup();
+			given(userRepository.findByUserIdAndDeletedAtIsNull(user.getUserId())).willReturn(Optional.of(user));
+			refreshTokenService.rotate(login.getRefreshToken());
+
+			// when & then
+			assertThatThrownBy(() -> refreshTokenService.rotate(login.getRefreshToken()))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED);
+				});
+			verify(refreshTokenRepository).revokeFamily(eq(sessionId), any());
+			assertThat(revokedSessionRegistry.isRevoked(sessionId)).isTrue();
+		}
+
+		@Test
+		@DisplayName("access token 으로는 회전할 수 없다")
+		void rotate_RejectsAccessToken() {
+			// given
+			ResTokenDtoV1 login = refreshTokenService.issue(user);
+
+			// when & then
+			assertThatThrownBy(() -> refreshTokenService.rotate(login.getAccessToken()))
+				.isInstanceOf(CustomException.class)
+				.satisfies(ex -> {
+					CustomException ce = (CustomException)ex;
+					assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+				});
+		}
+	}
+
+	@Test
+	@DisplayName("로그아웃한 세션만 폐기 목록에 오른다")
+	void logout_RevokesOnlyThatSession() {
+		// given
+		UUID sessionId = jwtUtil.parseRefreshToken(refreshTokenService.issue(user).getRefreshToken()).sessionId();
+		UUID otherSessionId = jwtUtil.parseRefreshToken(refreshTokenService.issue(user).getRefreshToken()).sessionId();
+
+		// when
+		refreshTokenService.logout(sessionId);
+
+		// then
+		assertThat(revokedSessionRegistry.isRevoked(sessionId)).isTrue();
+		assertThat(revokedSessionRegistry.isRevoked(otherSessionId)).isFalse();
+	}
+
+	private void stubLookup() {
+		given(refreshTokenRepository.findByIdForUpdate(any())).willAnswer(invocation ->
+			Optional.ofNullable(store.get(invocation.<UUID>getArgument(0))));
+	}
+}
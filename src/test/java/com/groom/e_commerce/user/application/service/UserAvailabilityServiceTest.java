@@ -0,0 +1,138 @@
+package com.groom.e_commerce.user.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.groom.e_commerce.user.domain.repository.UserAvailabilityView;
+import com.groom.e_commerce.user.domain.repository.UserIdentityView;
+import com.groom.e_commerce.user.domain.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private UserAvailabilityService userAvailabilityService;
+
+	private final UUID ownerId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		userAvailabilityService = new UserAvailabilityService(userRepository, 1_000L, 0.01, 100);
+	}
+
+	@Nested
+	@DisplayName("check()")
+	class Check {
+
+		@Test
+		@DisplayName("필터 적재 후 처음 보는 이메일/닉네임이면 DB를 조회하지 않는다")
+		void check_SkipsDatabaseWhenAbsent() {
+			// given
+			warm();
+
+			// when
+			UserAvailabilityService.Availability availability =
+				userAvailabilityService.check("new@groom.com", "newbie");
+
+			// then
+			assertThat(availability.emailOwnerId()).isNull();
+			assertThat(availability.emailTaken()).isFalse();
+			assertThat(availability.nicknameTaken()).isFalse();
+			verify(userRepository, never()).findAvailability(anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("필터에 있는 값이면 한 번의 쿼리로 이메일/닉네임을 함께 확인한다")
+		void check_QueriesOnceWhenMaybeTaken() {
+			// given
+			warm();
+			given(userRepository.findAvailability("user@groom.com", "newbie"))
+				.willReturn(view(ownerId, true, false));
+
+			// when
+			UserAvailabilityService.Availability availability =
+				userAvailabilityService.check("user@groom.com", "newbie");
+
+			// then
+			assertThat(availability.emailOwnerId()).isEqualTo(ownerId);
+			assertThat(availability.emailTaken()).isTrue();
+			assertThat(availability.nicknameTaken()).isFalse();
+		}
+
+		@Test
+		@DisplayName("필터 적재 전에는 항상 DB로 확인한다")
+		void check_QueriesBeforeWarm() {
+			// given
+			given(userRepository.findAvailability("new@groom.com", "newbie"))
+				.willReturn(view(null, false, false));
+
+			// when
+			userAvailabilityService.check("new@groom.com", "newbie");
+
+			// then
+			verify(userRepository).findAvailability("new@groom.com", "newbie");
+		}
+	}
+
+	@Nested
+	@DisplayName("register()")
+	class Register {
+
+		@Test
+		@DisplayName("가입 후 등록된 닉네임은 다시 DB로 확인한다")
+		void register_MarksNicknameTaken() {
+			// given
+			warm();
+			given(userRepository.existsByNicknameAndDeletedAtIsNull("newbie")).willReturn(true);
+
+			// when
+			userAvailabilityService.register("new@groom.com", "newbie");
+
+			// then
+			assertThat(userAvailabilityService.isNicknameDefinitelyFree("newbie")).isFalse();
+			assertThat(userAvailabilityService.isNicknameAvailable("newbie")).isFalse();
+		}
+	}
+
+	private void warm() {
+		given(userRepository.findIdentitiesAfter(any(), any()))
+			.willReturn(List.of(new UserIdentityView(ownerId, "user@groom.com", "groom")));
+		userAvailabilityService.rebuild();
+	}
+
+	private UserAvailabilityView view(UUID emailOwnerId, boolean emailTaken, boolean nicknameTaken) {
+		return new UserAvailabilityView() {
+			@Override
+			public UUID getEmailOwnerId() {
+				return emailOwnerId;
+			}
+
+			@Override
+			public Boolean getEmailTaken() {
+				return emailTaken;
+			}
+
+			@Override
+			public Boolean getNicknameTaken() {
+				return nicknameTaken;
+			}
+		};
+	}
+}